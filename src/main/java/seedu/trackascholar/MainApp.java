@@ -6,9 +6,11 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.trackascholar.commons.core.Config;
 import seedu.trackascholar.commons.core.LogsCenter;
+import seedu.trackascholar.commons.core.StartupProfiler;
 import seedu.trackascholar.commons.core.Version;
 import seedu.trackascholar.commons.exceptions.DataConversionException;
 import seedu.trackascholar.commons.util.ConfigUtil;
@@ -22,11 +24,11 @@ import seedu.trackascholar.model.ReadOnlyUserPrefs;
 import seedu.trackascholar.model.TrackAScholar;
 import seedu.trackascholar.model.UserPrefs;
 import seedu.trackascholar.model.util.SampleDataUtil;
-import seedu.trackascholar.storage.JsonTrackAScholarStorage;
 import seedu.trackascholar.storage.JsonUserPrefsStorage;
 import seedu.trackascholar.storage.Storage;
 import seedu.trackascholar.storage.StorageManager;
 import seedu.trackascholar.storage.TrackAScholarStorage;
+import seedu.trackascholar.storage.TrackAScholarStorageConverter;
 import seedu.trackascholar.storage.UserPrefsStorage;
 import seedu.trackascholar.ui.Ui;
 import seedu.trackascholar.ui.UiManager;
@@ -45,6 +47,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected StartupProfiler startupProfiler;
+    private boolean isInitialDataReadFromFile;
 
     @Override
     public void init() throws Exception {
@@ -52,20 +56,58 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        startupProfiler = initStartupProfiler(appParameters.getStartupProfilePath());
+
+        startupProfiler.startPhase("config");
         config = initConfig(appParameters.getConfigPath());
 
+        startupProfiler.startPhase("userPrefs");
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TrackAScholarStorage trackAScholarStorage = new JsonTrackAScholarStorage(userPrefs.getTrackAScholarFilePath());
-        storage = new StorageManager(trackAScholarStorage, userPrefsStorage);
+
+        startupProfiler.startPhase("storage");
+        TrackAScholarStorage trackAScholarStorage = initTrackAScholarStorage(userPrefs);
+        storage = new StorageManager(trackAScholarStorage, userPrefsStorage, true);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        if (userPrefs.isProgressiveStartup()) {
+            // The window is shown with an empty model, which is filled in as the data file is read
+            logger.info("Loading TrackAScholar data in the background");
+            startupProfiler.startPhase("model");
+            model = ModelManager.adopting(new TrackAScholar(), userPrefs);
+            startupProfiler.startPhase("logic");
+            logic = new LogicManager(model, storage);
+            logic.loadApplicantsInBackground(Platform::runLater);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            startupProfiler.startPhase("logic");
+            logic = new LogicManager(model, storage, isInitialDataReadFromFile);
+        }
 
-        logic = new LogicManager(model, storage);
+        ui = new UiManager(logic, startupProfiler::finish);
+        startupProfiler.endPhase();
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns a {@code StartupProfiler} that writes its report to {@code startupProfilePath}, or a disabled one if
+     * {@code startupProfilePath} is null.
+     */
+    private StartupProfiler initStartupProfiler(Path startupProfilePath) {
+        if (startupProfilePath == null) {
+            return StartupProfiler.createDisabled();
+        }
+        logger.info("Profiling startup to " + startupProfilePath);
+        return new StartupProfiler(VERSION.toString(), startupProfilePath);
+    }
+
+    /**
+     * Returns a {@code TrackAScholarStorage} for the data file in {@code userPrefs}, kept in the storage mode
+     * chosen in {@code userPrefs}.
+     */
+    private TrackAScholarStorage initTrackAScholarStorage(ReadOnlyUserPrefs userPrefs) {
+        return TrackAScholarStorageConverter.createStorage(userPrefs.getTrackAScholarStorageMode(),
+                userPrefs.getTrackAScholarFilePath());
     }
 
     /**
@@ -76,12 +118,14 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyTrackAScholar> trackAScholarOptional;
         ReadOnlyTrackAScholar initialData;
+        startupProfiler.startPhase("storageRead");
         try {
             trackAScholarOptional = storage.readTrackAScholar();
             if (!trackAScholarOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample TrackAScholar");
             }
             initialData = trackAScholarOptional.orElseGet(SampleDataUtil::getSampleTrackAScholar);
+            isInitialDataReadFromFile = trackAScholarOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty TrackAScholar");
             initialData = new TrackAScholar();
@@ -90,6 +134,11 @@ public class MainApp extends Application {
             initialData = new TrackAScholar();
         }
 
+        startupProfiler.startPhase("model");
+        // The data was read for the model alone, so the model can take it over instead of copying it
+        if (initialData instanceof TrackAScholar) {
+            return ModelManager.adopting((TrackAScholar) initialData, userPrefs);
+        }
         return new ModelManager(initialData, userPrefs);
     }
 
@@ -168,7 +217,9 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TrackAScholar " + MainApp.VERSION);
+        startupProfiler.startPhase("mainWindow");
         ui.start(primaryStage);
+        startupProfiler.startPhase("firstRender");
     }
 
     @Override
@@ -179,6 +230,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save TrackAScholar data " + StringUtil.getDetails(e));
+        }
     }
 }
 
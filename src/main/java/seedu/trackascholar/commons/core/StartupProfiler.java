@@ -0,0 +1,276 @@
+package seedu.trackascholar.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.trackascholar.commons.util.FileUtil;
+import seedu.trackascholar.commons.util.JsonUtil;
+import seedu.trackascholar.commons.util.StringUtil;
+
+/**
+ * Measures the phases of starting the app, one after another, and reports for each phase how long it took, how much
+ * memory was allocated during it and how long garbage collection ran during it.
+ * The report is logged and written to a json file when profiling finishes, so that the startups of different
+ * versions can be compared.
+ * A disabled profiler measures nothing, so that the phases of startup can be marked whether or not they are profiled.
+ */
+public class StartupProfiler {
+
+    /** Reported in place of measurements that this JVM does not support. */
+    public static final long UNSUPPORTED = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final String PHASE_FORMAT = "%n  %-16s %8.1f ms %10d KB allocated %6d ms in %d GCs";
+
+    private final String version;
+    private final Path reportFilePath;
+    private final long jvmUptimeAtStartMillis;
+    private final List<Phase> phases = new ArrayList<>();
+    private PhaseStart currentPhaseStart;
+    private boolean isFinished;
+
+    /**
+     * Creates an enabled {@code StartupProfiler} for the given {@code version} of the app, that writes its report
+     * to {@code reportFilePath}.
+     */
+    public StartupProfiler(String version, Path reportFilePath) {
+        requireNonNull(version);
+        requireNonNull(reportFilePath);
+        this.version = version;
+        this.reportFilePath = reportFilePath;
+        jvmUptimeAtStartMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    private StartupProfiler() {
+        version = null;
+        reportFilePath = null;
+        jvmUptimeAtStartMillis = 0;
+    }
+
+    /**
+     * Returns a {@code StartupProfiler} that measures and reports nothing.
+     */
+    public static StartupProfiler createDisabled() {
+        return new StartupProfiler();
+    }
+
+    public boolean isEnabled() {
+        return reportFilePath != null;
+    }
+
+    /**
+     * Ends the current phase, if any, and starts measuring the phase called {@code name}.
+     */
+    public synchronized void startPhase(String name) {
+        requireNonNull(name);
+        if (!isEnabled() || isFinished) {
+            return;
+        }
+        endPhase();
+        currentPhaseStart = new PhaseStart(name);
+    }
+
+    /**
+     * Ends the current phase, if any. Time until the next phase starts is not part of any phase.
+     */
+    public synchronized void endPhase() {
+        if (currentPhaseStart != null) {
+            phases.add(currentPhaseStart.end());
+            currentPhaseStart = null;
+        }
+    }
+
+    /**
+     * Ends the current phase and stops profiling, then logs the report and writes it to the report file.
+     * The app is considered interactive from this point on. Calls after the first have no effect.
+     */
+    public synchronized void finish() {
+        if (!isEnabled() || isFinished) {
+            return;
+        }
+        endPhase();
+        isFinished = true;
+
+        Report report = new Report(version, jvmUptimeAtStartMillis, ManagementFactory.getRuntimeMXBean().getUptime(),
+                phases);
+        logger.info(report.toString());
+        try {
+            FileUtil.createIfMissing(reportFilePath);
+            JsonUtil.saveJsonFile(report, reportFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save startup profile to " + reportFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the phases measured so far, in the order that they ended.
+     */
+    public synchronized List<Phase> getPhases() {
+        return Collections.unmodifiableList(new ArrayList<>(phases));
+    }
+
+    /**
+     * The measurements of a phase of startup.
+     * Memory allocated by threads that end before the phase does is not counted.
+     */
+    public static class Phase {
+        private final String name;
+        private final double wallMillis;
+        private final long allocatedBytes;
+        private final long gcMillis;
+        private final long gcCount;
+
+        Phase(String name, double wallMillis, long allocatedBytes, long gcMillis, long gcCount) {
+            this.name = name;
+            this.wallMillis = wallMillis;
+            this.allocatedBytes = allocatedBytes;
+            this.gcMillis = gcMillis;
+            this.gcCount = gcCount;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getWallMillis() {
+            return wallMillis;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getGcMillis() {
+            return gcMillis;
+        }
+
+        public long getGcCount() {
+            return gcCount;
+        }
+    }
+
+    /**
+     * The readings taken when a phase starts.
+     */
+    private static class PhaseStart {
+        private final String name;
+        private final long startNanos;
+        private final Map<Long, Long> allocatedBytesByThread;
+        private final long gcMillis;
+        private final long gcCount;
+
+        private PhaseStart(String name) {
+            this.name = name;
+            allocatedBytesByThread = readAllocatedBytesByThread();
+            gcMillis = readTotalGcMillis();
+            gcCount = readTotalGcCount();
+            startNanos = System.nanoTime();
+        }
+
+        private Phase end() {
+            double wallMillis = (double) (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+            return new Phase(name, wallMillis, countAllocatedBytesSince(allocatedBytesByThread),
+                    readTotalGcMillis() - gcMillis, readTotalGcCount() - gcCount);
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by each live thread, keyed by thread id, or null if the JVM
+     * does not count allocations.
+     */
+    private static Map<Long, Long> readAllocatedBytesByThread() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationCountingBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationCountingBean.isThreadAllocatedMemorySupported()
+                || !allocationCountingBean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+
+        long[] threadIds = allocationCountingBean.getAllThreadIds();
+        long[] allocatedBytes = allocationCountingBean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocatedBytes[i] >= 0) {
+                allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return allocatedBytesByThread;
+    }
+
+    private static long countAllocatedBytesSince(Map<Long, Long> startAllocatedBytesByThread) {
+        Map<Long, Long> endAllocatedBytesByThread = readAllocatedBytesByThread();
+        if (startAllocatedBytesByThread == null || endAllocatedBytesByThread == null) {
+            return UNSUPPORTED;
+        }
+        long allocatedBytes = 0;
+        for (Map.Entry<Long, Long> entry : endAllocatedBytesByThread.entrySet()) {
+            allocatedBytes += entry.getValue() - startAllocatedBytesByThread.getOrDefault(entry.getKey(), 0L);
+        }
+        return allocatedBytes;
+    }
+
+    private static long readTotalGcMillis() {
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcMillis += Math.max(0, gcBean.getCollectionTime());
+        }
+        return gcMillis;
+    }
+
+    private static long readTotalGcCount() {
+        long gcCount = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gcBean.getCollectionCount());
+        }
+        return gcCount;
+    }
+
+    /**
+     * The report of a profiled startup, as written to the report file.
+     */
+    private static class Report {
+        private final String version;
+        private final long jvmUptimeAtStartMillis;
+        private final long timeToInteractiveMillis;
+        private final double totalPhaseMillis;
+        private final List<Phase> phases;
+
+        private Report(String version, long jvmUptimeAtStartMillis, long timeToInteractiveMillis,
+                List<Phase> phases) {
+            this.version = version;
+            this.jvmUptimeAtStartMillis = jvmUptimeAtStartMillis;
+            this.timeToInteractiveMillis = timeToInteractiveMillis;
+            this.totalPhaseMillis = phases.stream().mapToDouble(Phase::getWallMillis).sum();
+            this.phases = phases;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Startup profile of TrackAScholar %s: interactive %d ms after launch, "
+                    + "of which %d ms before profiling began and %.1f ms in these phases:",
+                    version, timeToInteractiveMillis, jvmUptimeAtStartMillis, totalPhaseMillis));
+            for (Phase phase : phases) {
+                sb.append(String.format(PHASE_FORMAT, phase.name, phase.wallMillis,
+                        phase.allocatedBytes == UNSUPPORTED ? UNSUPPORTED : phase.allocatedBytes / 1024,
+                        phase.gcMillis, phase.gcCount));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.trackascholar.commons.core;
+
+/**
+ * The ways in which the TrackAScholar data file can be kept on disk.
+ */
+public enum StorageMode {
+    /** Rewrites the whole json data file on every save. */
+    JSON,
+    /** Appends the changes of every save to a journal next to the json data file, compacting it occasionally. */
+    JOURNAL,
+    /** Rewrites a binary snapshot next to the json data file on every save, which is much faster to read. */
+    BINARY
+}
@@ -1,18 +1,32 @@
 package seedu.trackascholar.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files.
  */
 public class FileUtil {
 
+    /** The size from which files are memory-mapped instead of read into the heap by {@link #readToBuffer(Path)}. */
+    public static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
 
+    /*
+     * Windows does not allow a file to be truncated or replaced while it is mapped, and a mapping is only released
+     * once its buffer is garbage collected, so mapping a data file there would make the next save fail.
+     */
+    private static final boolean IS_MAPPING_SAFE = !System.getProperty("os.name", "").startsWith("Windows");
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -67,6 +81,18 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic where the file system supports it, so that {@code target} is either the old or the new file.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Assumes file exists.
      */
@@ -74,6 +100,31 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the contents of the file, from the start to the end of the returned buffer.
+     * Files of at least {@value #MAPPED_READ_THRESHOLD} bytes are memory-mapped where the platform allows it, so
+     * that they are read by the operating system on demand instead of being copied into the heap.
+     * Assumes file exists.
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+        long size = Files.size(file);
+        if (IS_MAPPING_SAFE && size >= MAPPED_READ_THRESHOLD && size <= Integer.MAX_VALUE) {
+            return mapForReading(file);
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+
+    /**
+     * Returns a read-only buffer mapped to the contents of the file, which must be smaller than 2 GB.
+     * The file stays mapped until the buffer is garbage collected, even though its channel is closed.
+     * Assumes file exists.
+     */
+    public static ByteBuffer mapForReading(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -0,0 +1,111 @@
+package seedu.trackascholar.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A registry of immutable values that hands out a single shared instance for every distinct key,
+ * so that equal values created from the same key are the same object.
+ * Also counts how often an existing instance is shared, and estimates the heap that sharing saves, for reporting
+ * purposes.
+ *
+ * @param <T> type of the values in the pool, which must be immutable.
+ */
+public class InternPool<T> {
+
+    /*
+     * The layout of objects on a 64-bit JVM with compressed references, which is the default for heaps below 32 GB:
+     * a 12 byte header, 4 byte references, and sizes rounded up to a multiple of 8 bytes.
+     */
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int OBJECT_ALIGNMENT_BYTES = 8;
+
+    private final Map<String, T> instances = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+    private final AtomicLong reuseCount = new AtomicLong();
+    private volatile long shallowInstanceBytes;
+
+    /**
+     * Constructs an empty {@code InternPool} that creates missing values with {@code factory}.
+     */
+    public InternPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the shared value for {@code key}, creating it with the factory of this pool if there is none yet.
+     * Exceptions thrown by the factory are propagated and nothing is added to the pool.
+     */
+    public T intern(String key) {
+        requireNonNull(key);
+        T instance = instances.get(key);
+        if (instance != null) {
+            reuseCount.incrementAndGet();
+            return instance;
+        }
+        instance = instances.computeIfAbsent(key, factory);
+        if (shallowInstanceBytes == 0) {
+            shallowInstanceBytes = estimateShallowBytes(instance.getClass());
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the estimated shallow size in bytes of an instance of {@code type}, from the sizes of its fields.
+     */
+    static long estimateShallowBytes(Class<?> type) {
+        long bytes = OBJECT_HEADER_BYTES;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    bytes += getFieldBytes(field.getType());
+                }
+            }
+        }
+        return (bytes + OBJECT_ALIGNMENT_BYTES - 1) / OBJECT_ALIGNMENT_BYTES * OBJECT_ALIGNMENT_BYTES;
+    }
+
+    private static int getFieldBytes(Class<?> fieldType) {
+        if (fieldType == long.class || fieldType == double.class) {
+            return Long.BYTES;
+        } else if (fieldType == int.class || fieldType == float.class) {
+            return Integer.BYTES;
+        } else if (fieldType == short.class || fieldType == char.class) {
+            return Short.BYTES;
+        } else if (fieldType == byte.class || fieldType == boolean.class) {
+            return Byte.BYTES;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    /**
+     * Returns the number of distinct values in this pool.
+     */
+    public int size() {
+        return instances.size();
+    }
+
+    /**
+     * Returns the number of times an existing value was handed out instead of a new one being created.
+     */
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    /**
+     * Returns the estimated number of bytes of heap saved by handing out existing values instead of creating new
+     * ones, counting the shallow size of each value that was not created.
+     * This is a lower bound, as the strings and other objects that a value refers to are not counted.
+     */
+    public long getEstimatedBytesSaved() {
+        return getReuseCount() * shallowInstanceBytes;
+    }
+}
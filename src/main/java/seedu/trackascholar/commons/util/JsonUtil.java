@@ -2,23 +2,34 @@ package seedu.trackascholar.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import seedu.trackascholar.commons.core.LogsCenter;
 import seedu.trackascholar.commons.exceptions.DataConversionException;
@@ -29,6 +40,7 @@ import seedu.trackascholar.commons.exceptions.DataConversionException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -39,13 +51,59 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // ObjectWriters are immutable and thread-safe, so they are created once and shared by every save.
+    private static final ObjectWriter prettyObjectWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactObjectWriter = objectMapper.writer();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
     }
 
+    /**
+     * Writes the JSON representation of {@code objectToSerialize} to {@code jsonFile} as it is generated,
+     * without building the whole document in memory first.
+     * The JSON is written to a temporary file next to {@code jsonFile}, which then replaces {@code jsonFile} in a
+     * single step, so that {@code jsonFile} is never left partly written if writing fails or the app stops midway.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, isCompact, null);
+    }
+
+    /**
+     * Similar to {@link #serializeObjectToJsonFile(Path, Object, boolean)}, also updating {@code digest}, if it is
+     * not null, with every byte written to {@code jsonFile}.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact,
+            MessageDigest digest) throws IOException {
+        ObjectWriter objectWriter = isCompact ? compactObjectWriter : prettyObjectWriter;
+        Path temporaryFile = jsonFile.resolveSibling(jsonFile.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            OutputStream fileOutputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile));
+            try (OutputStream outputStream = digest == null
+                    ? fileOutputStream
+                    : new DigestOutputStream(fileOutputStream, digest)) {
+                objectWriter.writeValue(outputStream, objectToSerialize);
+            }
+            // the stream has been closed by now, so the contents are forced to the disk through a new channel
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            FileUtil.moveReplacing(temporaryFile, jsonFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the JSON representation of an instance of {@code classOfObjectToDeserialize} from {@code jsonFile}.
+     * The bytes of the file are parsed directly from the buffer returned by {@link FileUtil#readToBuffer(Path)},
+     * without first decoding the whole file into a string.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return fromJsonBuffer(FileUtil.readToBuffer(jsonFile), classOfObjectToDeserialize);
     }
 
     /**
@@ -86,10 +144,35 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     *
+     * @param isCompact true to write the Json object on a single line without any insignificant whitespace,
+     *     false to pretty print it.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean)}.
+     *
+     * @param digest updated with every byte written to the file, so that it holds the digest of the contents of
+     *     the file once the Json object is saved.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact, MessageDigest digest)
+            throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(digest);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact, digest);
     }
 
 
@@ -103,6 +186,35 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts the JSON data from the position to the limit of {@code buffer} to an instance of a class,
+     * reading the bytes directly from the buffer. The position of {@code buffer} is not changed.
+     */
+    public static <T> T fromJsonBuffer(ByteBuffer buffer, Class<T> instanceClass) throws IOException {
+        try (InputStream inputStream = new ByteBufferBackedInputStream(buffer.duplicate())) {
+            return objectMapper.readValue(inputStream, instanceClass);
+        }
+    }
+
+    /**
+     * Returns a parser that reads the JSON data in {@code filePath} token by token, without reading the whole file
+     * into memory. The caller is responsible for closing the parser.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Reads the JSON value that {@code parser} is at, which may be part of a larger document, as an instance of
+     * {@code instanceClass}. The parser is left at the last token of the value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation.
      *
@@ -111,7 +223,19 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyObjectWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * and without any insignificant whitespace.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactObjectWriter.writeValueAsString(instance);
     }
 
     /**
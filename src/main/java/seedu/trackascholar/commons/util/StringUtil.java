@@ -5,7 +5,9 @@ import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -32,11 +34,68 @@ public class StringUtil {
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        return containsFoldedWord(toFoldedWords(sentence), foldCase(preppedWord));
+    }
+
+    /**
+     * Returns true if {@code foldedWords} contains {@code foldedWord}.
+     * Both are expected to be already case-folded by {@link #foldCase(String)}, so no string is created.
+     */
+    public static boolean containsFoldedWord(List<String> foldedWords, String foldedWord) {
+        requireNonNull(foldedWords);
+        requireNonNull(foldedWord);
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (foldedWords.get(i).equals(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code s} with each character case-folded the same way as {@link String#equalsIgnoreCase(String)}
+     * and {@link String#compareToIgnoreCase(String)} compare characters.
+     * Two strings are equal ignoring case if and only if their folded forms are equal, and the folded forms
+     * order the same way as {@code compareToIgnoreCase} orders the original strings.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] foldedCharacters = new char[s.length()];
+        for (int i = 0; i < foldedCharacters.length; i++) {
+            foldedCharacters[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(foldedCharacters);
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the trimmed, case-folded form of each of the {@code keywords}, in the same order.
+     * A keyword that is empty or spans several words after trimming never matches a word of a sentence.
+     */
+    public static List<String> foldKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> foldedKeywords = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            foldedKeywords.add(foldCase(keyword.trim()));
+        }
+        return foldedKeywords;
+    }
+
+    /**
+     * Returns the case-folded words of {@code sentence}, where a word is a maximal run of non-whitespace characters.
+     *   <br>examples:<pre>
+     *       toFoldedWords("  ABc def ") == ["abc", "def"]
+     *       toFoldedWords("   ") == []
+     *       </pre>
+     */
+    public static List<String> toFoldedWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> foldedWords = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) { // leading whitespace produces an empty first word
+                foldedWords.add(foldCase(word));
+            }
+        }
+        return foldedWords.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(foldedWords);
     }
 
     /**
@@ -66,4 +125,38 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the lowercase hexadecimal representation of {@code bytes}, two digits per byte.
+     */
+    public static String toHexString(byte[] bytes) {
+        requireNonNull(bytes);
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Returns the bytes represented by the hexadecimal string {@code hex}, as returned by {@link #toHexString}.
+     *
+     * @throws IllegalArgumentException if {@code hex} has an odd length or contains a non-hexadecimal character.
+     */
+    public static byte[] fromHexString(String hex) {
+        requireNonNull(hex);
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hexadecimal string has an odd length: " + hex);
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Not a hexadecimal string: " + hex);
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
 }
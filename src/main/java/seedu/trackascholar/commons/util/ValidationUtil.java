@@ -0,0 +1,138 @@
+package seedu.trackascholar.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Checks strings against the formats of the fields of applicants by scanning their characters once, without
+ * compiling patterns or allocating any objects.
+ * Alphanumeric characters are the ASCII letters and digits only, as with {@code \p{Alnum}} in a regular expression.
+ */
+public class ValidationUtil {
+
+    private static final char DOMAIN_LABEL_SEPARATOR = '.';
+    private static final char DOMAIN_LABEL_HYPHEN = '-';
+    private static final char EMAIL_SEPARATOR = '@';
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code test} starts with an alphanumeric character, followed only by alphanumeric characters
+     * and characters in {@code otherCharacters}. Same as matching {@code [\p{Alnum}][\p{Alnum}<otherCharacters>]*}.
+     */
+    public static boolean isAlphanumericText(String test, String otherCharacters) {
+        requireNonNull(test);
+        requireNonNull(otherCharacters);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && otherCharacters.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of exactly {@code length} digits. Same as matching {@code \d{length}}.
+     */
+    public static boolean isDigits(String test, int length) {
+        requireNonNull(test);
+        if (test.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an email address of the form {@code local-part@domain}, where
+     * <ul>
+     *     <li>the local part is made up of alphanumeric characters, separated by single characters in
+     *     {@code specialCharacters}, and</li>
+     *     <li>the domain is made up of labels separated by periods, where each label is made up of alphanumeric
+     *     characters separated by single hyphens, and the last label has two alphanumeric characters in a row.</li>
+     * </ul>
+     * This is the format accepted by the regular expression in {@code Email}.
+     */
+    public static boolean isEmail(String test, String specialCharacters) {
+        requireNonNull(test);
+        requireNonNull(specialCharacters);
+        int separatorIndex = test.indexOf(EMAIL_SEPARATOR);
+        return separatorIndex >= 0
+                && isEmailLocalPart(test, 0, separatorIndex, specialCharacters)
+                && isEmailDomain(test, separatorIndex + 1, test.length());
+    }
+
+    private static boolean isEmailLocalPart(String test, int start, int end, String specialCharacters) {
+        if (start == end || !isAlphanumeric(test.charAt(start)) || !isAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                continue;
+            }
+            if (specialCharacters.indexOf(c) < 0 || !isAlphanumeric(test.charAt(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmailDomain(String test, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i < end; i++) {
+            if (test.charAt(i) == DOMAIN_LABEL_SEPARATOR) {
+                if (!isDomainLabel(test, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isDomainLabel(test, labelStart, end) && hasAdjacentAlphanumerics(test, labelStart, end);
+    }
+
+    private static boolean isDomainLabel(String test, int start, int end) {
+        if (start == end || !isAlphanumeric(test.charAt(start)) || !isAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                continue;
+            }
+            if (c != DOMAIN_LABEL_HYPHEN || !isAlphanumeric(test.charAt(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start; i + 1 < end; i++) {
+            if (isAlphanumeric(test.charAt(i)) && isAlphanumeric(test.charAt(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
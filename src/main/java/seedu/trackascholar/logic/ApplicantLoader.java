@@ -0,0 +1,187 @@
+package seedu.trackascholar.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.trackascholar.commons.core.LogsCenter;
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.util.StringUtil;
+import seedu.trackascholar.model.Model;
+import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.util.SampleDataUtil;
+import seedu.trackascholar.storage.DuplicateApplicantChecker;
+import seedu.trackascholar.storage.Storage;
+
+/**
+ * Loads the applicants of the data file into an empty model in the background, so that the app can be used to
+ * view them while the rest of the file is still being read.
+ * Applicants are read a chunk at a time on a background thread, and each chunk is added to the model by the
+ * {@code publisher}, which should run it on the thread that the model is used from.
+ * As when the whole file is read at startup, the sample applicants are loaded if the file is not found, and the
+ * model is left empty if the file cannot be read.
+ */
+public class ApplicantLoader {
+
+    public static final int DEFAULT_CHUNK_SIZE = 2000;
+
+    private static final Logger logger = LogsCenter.getLogger(ApplicantLoader.class);
+    private static final String THREAD_NAME = "TrackAScholar-loader";
+
+    /* Chunks handed to the publisher but not added to the model yet, beyond which reading waits for the model. */
+    private static final int MAX_PENDING_CHUNKS = 4;
+
+    /**
+     * Receives the progress of loading after every chunk of applicants, on the thread of the publisher.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called after {@code applicantCount} applicants, making up {@code fractionRead} of the file, have been
+         * added to the model. {@code isFinished} is true once loading has ended, whether or not it succeeded.
+         */
+        void onProgress(int applicantCount, double fractionRead, boolean isFinished);
+    }
+
+    private final Model model;
+    private final Storage storage;
+    private final Executor publisher;
+    private final int chunkSize;
+    private final Semaphore pendingChunks = new Semaphore(MAX_PENDING_CHUNKS);
+    private final List<ProgressListener> progressListeners = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean isLoading = true;
+    private boolean isReadFromDataFile;
+    private int applicantCount;
+
+    /**
+     * Creates an {@code ApplicantLoader} that loads the applicants of {@code storage}'s data file into
+     * {@code model}, {@code chunkSize} at a time.
+     */
+    public ApplicantLoader(Model model, Storage storage, Executor publisher, int chunkSize) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(publisher);
+        assert chunkSize > 0;
+        this.model = model;
+        this.storage = storage;
+        this.publisher = publisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Starts loading on a new background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads the data file on the calling thread, handing its applicants to the publisher a chunk at a time.
+     */
+    void load() {
+        DuplicateApplicantChecker duplicateApplicantChecker = new DuplicateApplicantChecker();
+        try {
+            boolean isFound = storage.readApplicantsInChunks(chunkSize, (chunk, fractionRead) -> {
+                duplicateApplicantChecker.check(chunk);
+                publish(chunk, fractionRead);
+            });
+            if (!isFound) {
+                logger.info("Data file not found. Will be starting with a sample TrackAScholar");
+                publish(Arrays.asList(SampleDataUtil.getSampleApplicants()), 1);
+            }
+            publisher.execute(() -> finish(isFound));
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty TrackAScholar: "
+                    + StringUtil.getDetails(e));
+            publisher.execute(this::discard);
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TrackAScholar: "
+                    + StringUtil.getDetails(e));
+            publisher.execute(this::discard);
+        } catch (RuntimeException e) {
+            // Commands would be rejected for good if loading never ended
+            logger.severe("Unexpected error while loading. Will be starting with an empty TrackAScholar: "
+                    + StringUtil.getDetails(e));
+            publisher.execute(this::discard);
+        }
+    }
+
+    private void publish(List<Applicant> chunk, double fractionRead) {
+        pendingChunks.acquireUninterruptibly();
+        publisher.execute(() -> {
+            try {
+                model.importWithoutReplace(chunk);
+                applicantCount += chunk.size();
+                notifyProgressListeners(fractionRead, false);
+            } finally {
+                pendingChunks.release();
+            }
+        });
+    }
+
+    private void finish(boolean isReadFromDataFile) {
+        this.isReadFromDataFile = isReadFromDataFile;
+        isLoading = false;
+        logger.info(String.format("Loaded %1$d applicants in the background in %2$d ms", applicantCount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        notifyProgressListeners(1, true);
+    }
+
+    private void discard() {
+        model.setTrackAScholar(new TrackAScholar());
+        applicantCount = 0;
+        isLoading = false;
+        notifyProgressListeners(1, true);
+    }
+
+    private void notifyProgressListeners(double fractionRead, boolean isFinished) {
+        for (ProgressListener progressListener : progressListeners) {
+            progressListener.onProgress(applicantCount, fractionRead, isFinished);
+        }
+    }
+
+    /**
+     * Adds a listener that receives the progress of loading from now on.
+     * Must be called on the thread of the publisher.
+     */
+    public void addProgressListener(ProgressListener progressListener) {
+        requireNonNull(progressListener);
+        progressListeners.add(progressListener);
+    }
+
+    /**
+     * Returns true until all applicants have been added to the model, or loading has failed.
+     */
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    /**
+     * Returns true if loading has finished with the applicants of the data file, rather than the sample applicants
+     * or none at all.
+     * Must be called on the thread of the publisher.
+     */
+    public boolean isReadFromDataFile() {
+        return isReadFromDataFile;
+    }
+
+    /**
+     * Returns the number of applicants added to the model so far.
+     * Must be called on the thread of the publisher.
+     */
+    public int getApplicantCount() {
+        return applicantCount;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.trackascholar.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 import javafx.collections.ObservableList;
 import seedu.trackascholar.commons.core.GuiSettings;
@@ -9,6 +10,7 @@ import seedu.trackascholar.logic.commands.exceptions.CommandException;
 import seedu.trackascholar.logic.parser.exceptions.ParseException;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.ApplicationStatus;
 
 /**
  * API of the Logic component.
@@ -24,6 +26,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Starts loading the applicants of the data file into the model in the background, a chunk at a time.
+     * Commands are not executed until loading has finished.
+     *
+     * @param publisher runs the code that adds each chunk to the model, on the thread that the model is used from.
+     * @see ApplicantLoader
+     */
+    void loadApplicantsInBackground(Executor publisher);
+
+    /**
+     * Returns true while applicants are being loaded in the background.
+     */
+    boolean isLoading();
+
+    /**
+     * Adds a listener that receives the progress of loading applicants in the background, if they are being loaded.
+     */
+    void addLoadingListener(ApplicantLoader.ProgressListener progressListener);
+
     /**
      * Returns the TrackAScholar.
      *
@@ -37,6 +58,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the pinned list of applicants. */
     ObservableList<Applicant> getPinnedApplicantList();
 
+    /**
+     * Returns the number of applicants with the given {@code applicationStatus}.
+     *
+     * @see seedu.trackascholar.model.Model#countApplicantsByStatus(ApplicationStatus)
+     */
+    int countApplicantsByStatus(ApplicationStatus applicationStatus);
+
     /**
      * Returns the user prefs' TrackAScholar file path.
      */
@@ -2,6 +2,8 @@ package seedu.trackascholar.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +17,7 @@ import seedu.trackascholar.logic.parser.exceptions.ParseException;
 import seedu.trackascholar.model.Model;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.ApplicationStatus;
 import seedu.trackascholar.storage.Storage;
 
 /**
@@ -22,38 +25,103 @@ import seedu.trackascholar.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_STILL_LOADING = "Applicants are still being loaded. "
+            + "Please enter the command again once loading is done.";
+    private static final long UNSAVED_MODIFICATION_COUNT = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TrackAScholarParser trackAScholarParser;
+    private long savedModificationCount;
+    private ApplicantLoader applicantLoader;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where the data of
+     * {@code model} is already in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The data of {@code model} is saved after the first command unless {@code isModelSaved}, such as when the
+     * sample data is used because the data file was not found.
+     */
+    public LogicManager(Model model, Storage storage, boolean isModelSaved) {
         this.model = model;
         this.storage = storage;
         trackAScholarParser = new TrackAScholarParser();
+        savedModificationCount = isModelSaved ? model.getModificationCount() : UNSAVED_MODIFICATION_COUNT;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading()) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
 
         CommandResult commandResult;
         Command command = trackAScholarParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        Optional<IOException> backgroundSaveFailure = storage.pollTrackAScholarSaveFailure();
+        if (backgroundSaveFailure.isPresent()) {
+            savedModificationCount = UNSAVED_MODIFICATION_COUNT;
+        }
+
         try {
-            storage.saveTrackAScholar(model.getTrackAScholar());
+            long modificationCount = model.getModificationCount();
+            if (modificationCount == savedModificationCount) {
+                logger.fine("TrackAScholar data unchanged, skipping save");
+            } else {
+                storage.requestSaveTrackAScholar(model.getTrackAScholar());
+                savedModificationCount = modificationCount;
+            }
+            if (commandResult.isExit()) {
+                storage.flushTrackAScholar();
+            }
         } catch (IOException ioe) {
+            savedModificationCount = UNSAVED_MODIFICATION_COUNT;
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
+        if (backgroundSaveFailure.isPresent()) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + backgroundSaveFailure.get(),
+                    backgroundSaveFailure.get());
+        }
         return commandResult;
     }
 
+    @Override
+    public void loadApplicantsInBackground(Executor publisher) {
+        assert applicantLoader == null : "Applicants can only be loaded once";
+        applicantLoader = new ApplicantLoader(model, storage, publisher, ApplicantLoader.DEFAULT_CHUNK_SIZE);
+        applicantLoader.addProgressListener((applicantCount, fractionRead, isFinished) -> {
+            if (isFinished) {
+                // As with data loaded before the logic is created, data read from the file is only saved once changed
+                savedModificationCount = applicantLoader.isReadFromDataFile()
+                        ? model.getModificationCount()
+                        : UNSAVED_MODIFICATION_COUNT;
+            }
+        });
+        applicantLoader.start();
+    }
+
+    @Override
+    public boolean isLoading() {
+        return applicantLoader != null && applicantLoader.isLoading();
+    }
+
+    @Override
+    public void addLoadingListener(ApplicantLoader.ProgressListener progressListener) {
+        if (applicantLoader != null) {
+            applicantLoader.addProgressListener(progressListener);
+        }
+    }
+
     @Override
     public ReadOnlyTrackAScholar getTrackAScholar() {
         return model.getTrackAScholar();
@@ -69,6 +137,11 @@ public class LogicManager implements Logic {
         return model.getPinnedApplicantList();
     }
 
+    @Override
+    public int countApplicantsByStatus(ApplicationStatus applicationStatus) {
+        return model.countApplicantsByStatus(applicationStatus);
+    }
+
     @Override
     public Path getTrackAScholarFilePath() {
         return model.getTrackAScholarFilePath();
@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.trackascholar.commons.core.Messages;
 import seedu.trackascholar.commons.core.index.Index;
@@ -112,11 +113,14 @@ public class EditCommand extends Command {
         Name updatedName = editApplicantDescriptor.getName().orElse(applicantToEdit.getName());
         Phone updatedPhone = editApplicantDescriptor.getPhone().orElse(applicantToEdit.getPhone());
         Email updatedEmail = editApplicantDescriptor.getEmail().orElse(applicantToEdit.getEmail());
-        Scholarship updatedScholarship = editApplicantDescriptor.getScholarship()
-                .orElse(applicantToEdit.getScholarship());
-        ApplicationStatus updatedApplicationStatus = editApplicantDescriptor.getApplicationStatus()
-                .orElse(applicantToEdit.getApplicationStatus());
-        Set<Major> updatedMajors = editApplicantDescriptor.getMajors().orElse(applicantToEdit.getMajors());
+        Scholarship updatedScholarship = Scholarship.of(editApplicantDescriptor.getScholarship()
+                .orElse(applicantToEdit.getScholarship()).getScholarshipName());
+        ApplicationStatus updatedApplicationStatus = ApplicationStatus.of(editApplicantDescriptor.getApplicationStatus()
+                .orElse(applicantToEdit.getApplicationStatus()).getStatusOfApplication());
+        Set<Major> updatedMajors = editApplicantDescriptor.getMajors().orElse(applicantToEdit.getMajors())
+                .stream()
+                .map(major -> Major.of(major.getMajorName()))
+                .collect(Collectors.toSet());
         Pin updatedPin = applicantToEdit.getPin();
 
         return new Applicant(updatedName, updatedPhone, updatedEmail, updatedScholarship,
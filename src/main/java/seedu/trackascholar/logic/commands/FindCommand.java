@@ -10,6 +10,7 @@ import java.util.function.Predicate;
 import seedu.trackascholar.commons.core.Messages;
 import seedu.trackascholar.model.Model;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.QueryPlan;
 
 /**
  * Finds and lists all applicants in TrackAScholar whose details contain any of the argument keywords.
@@ -19,9 +20,11 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FLAG_EXPLAIN = "--explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all applicants whose details contain any of the"
             + " specified attribute keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: must contain at least one prefix with non empty input "
+            + "Parameters: [" + FLAG_EXPLAIN + "] must contain at least one prefix with non empty input "
             + "[" + PREFIX_NAME + "NAME]... "
             + "[" + PREFIX_SCHOLARSHIP + "SCHOLARSHIP]... "
             + "[" + PREFIX_MAJOR + "MAJOR]... \n"
@@ -33,13 +36,30 @@ public class FindCommand extends Command {
 
     private final Predicate<Applicant> predicate;
 
+    private final boolean isExplain;
+
     public FindCommand(Predicate<Applicant> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that filters by {@code predicate}, and also shows the query plan used to evaluate it
+     * if {@code isExplain} is true.
+     */
+    public FindCommand(Predicate<Applicant> predicate, boolean isExplain) {
         this.predicate = predicate;
+        this.isExplain = isExplain;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (isExplain) {
+            QueryPlan queryPlan = model.explainFilteredApplicantList(predicate);
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_APPLICANTS_LISTED_OVERVIEW, model.getFilteredApplicantList().size())
+                    + "\n" + queryPlan.toExplanation());
+        }
         model.updateFilteredApplicantList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPLICANTS_LISTED_OVERVIEW, model.getFilteredApplicantList().size()));
@@ -49,6 +69,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate) // state check
+                && isExplain == ((FindCommand) other).isExplain);
     }
 }
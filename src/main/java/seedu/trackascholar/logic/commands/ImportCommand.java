@@ -1,20 +1,26 @@
 package seedu.trackascholar.logic.commands;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Optional;
+import java.util.List;
+import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
+import seedu.trackascholar.commons.core.LogsCenter;
 import seedu.trackascholar.commons.exceptions.DataConversionException;
 import seedu.trackascholar.logic.commands.exceptions.CommandException;
 import seedu.trackascholar.model.Model;
-import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.applicant.Applicant;
-import seedu.trackascholar.storage.JsonTrackAScholarStorage;
+import seedu.trackascholar.model.applicant.MergeSummary;
+import seedu.trackascholar.storage.DuplicateApplicantChecker;
+import seedu.trackascholar.storage.JsonApplicantStreamReader;
 
 /**
  * Imports a new trackAScholarImport file as a model and merges it with the current model.
+ * The file is read once, a chunk of applicants at a time, and each chunk is checked and merged before the next is
+ * read, so that a large file is never held in memory as a whole. The merge is a single batch of changes to the
+ * model, so an invalid file is still not imported at all.
  */
 public class ImportCommand extends Command {
 
@@ -44,10 +50,33 @@ public class ImportCommand extends Command {
             + "    hasPinned: false\n"
             + " }";
 
-    public static final String MESSAGE_SUCCESS = "Imported new file";
+    public static final String MESSAGE_SUCCESS = "Imported new file: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read the file to be imported: %1$s";
+    public static final String MESSAGE_CANCELLED = "Import cancelled, no applicants were imported";
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    /**
+     * Receives the progress of an import after every chunk of applicants.
+     * The import runs on the thread that executes commands, so only tests can observe its progress for now.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+        /**
+         * Called after {@code applicantCount} applicants, making up {@code fractionRead} of the file,
+         * have been read.
+         */
+        void onProgress(int applicantCount, double fractionRead);
+    }
 
     private final Path importedFilePath;
     private final String str;
+    private final int chunkSize;
+    private volatile boolean isCancelled;
+    private ProgressListener progressListener = (applicantCount, fractionRead) ->
+            logger.fine(String.format("Import: %d applicants, %.0f%% of file", applicantCount, fractionRead * 100));
 
     /**
      * Create a new instance of ImportCommand which will either replace or keep duplicate applicants
@@ -56,8 +85,7 @@ public class ImportCommand extends Command {
      * @param str to input 'k' or 'r'
      */
     public ImportCommand(String str) {
-        this.str = str;
-        importedFilePath = Paths.get("data", "trackAScholarImport.json");
+        this(str, Paths.get("data", "trackAScholarImport.json"));
     }
 
     /**
@@ -67,9 +95,34 @@ public class ImportCommand extends Command {
      * @param newPath filePath of the imported file
      */
     public ImportCommand(String str, Path newPath) {
+        this(str, newPath, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * ImportCommand that reads and merges the imported file {@code chunkSize} applicants at a time.
+     */
+    ImportCommand(String str, Path newPath, int chunkSize) {
         assert newPath != null;
+        assert chunkSize > 0;
         this.str = str;
         importedFilePath = newPath;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sets the listener that receives the progress of this import. Used by tests.
+     */
+    void setProgressListener(ProgressListener progressListener) {
+        assert progressListener != null;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Stops this import before its next chunk of applicants, discarding the applicants merged so far.
+     * May be called from any thread. Used by tests, as the app has no way to cancel a command yet.
+     */
+    void cancel() {
+        isCancelled = true;
     }
 
     @Override
@@ -78,26 +131,56 @@ public class ImportCommand extends Command {
         if (Files.notExists(importedFilePath)) {
             throw new CommandException(MESSAGE_NO_FILE_FOUND_ERROR);
         }
-        JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        try {
-            Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
-                    jsonTrackAScholarStorage.readTrackAScholar(importedFilePath);
+        MergeSummary mergeSummary = model.batch(() -> mergeImportedFile(model));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, mergeSummary));
 
-            assert !optionalTrackAScholar.isEmpty();
-            ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
-            ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
+    }
 
-            if (str.equals(REPLACE)) {
-                model.importWithReplace(applicantList);
-            } else if (str.equals(KEEP)) {
-                model.importWithoutReplace(applicantList);
+    /**
+     * Reads the imported file and merges its applicants into {@code model} one chunk at a time, after checking
+     * that each chunk is valid and distinct from the applicants read before it.
+     * Meant to run as a batch of changes to {@code model}, so that the merged applicants are shown all at once,
+     * and none of them are kept if the file turns out to be invalid, or the import fails or is cancelled midway.
+     * Returns the total number of applicants added, replaced and skipped.
+     */
+    private MergeSummary mergeImportedFile(Model model) throws CommandException {
+        MergeSummary mergeSummary = MergeSummary.EMPTY;
+        DuplicateApplicantChecker duplicateApplicantChecker = new DuplicateApplicantChecker();
+        try (JsonApplicantStreamReader reader = new JsonApplicantStreamReader(importedFilePath)) {
+            for (List<Applicant> chunk = readChunk(reader); !chunk.isEmpty(); chunk = readChunk(reader)) {
+                checkNotCancelled();
+                duplicateApplicantChecker.check(chunk);
+                if (str.equals(REPLACE)) {
+                    mergeSummary = mergeSummary.plus(model.importWithReplace(chunk));
+                } else if (str.equals(KEEP)) {
+                    mergeSummary = mergeSummary.plus(model.importWithoutReplace(chunk));
+                }
             }
-        } catch (DataConversionException e) {
-            throw new CommandException(MESSAGE_INVALID_FILE_DATA_FORMAT);
+        } catch (DataConversionException | IOException e) {
+            throw toCommandException(e);
         }
-        return new CommandResult(String.format(MESSAGE_SUCCESS));
+        return mergeSummary;
+    }
+
+    private CommandException toCommandException(Exception readException) {
+        if (readException instanceof DataConversionException) {
+            logger.info("Invalid data in " + importedFilePath + ": " + readException.getMessage());
+            return new CommandException(MESSAGE_INVALID_FILE_DATA_FORMAT);
+        }
+        return new CommandException(String.format(MESSAGE_READ_ERROR, readException.getMessage()), readException);
+    }
 
+    private List<Applicant> readChunk(JsonApplicantStreamReader reader) throws DataConversionException, IOException {
+        List<Applicant> chunk = reader.readChunk(chunkSize);
+        progressListener.onProgress(reader.getApplicantCount(), reader.getFractionRead());
+        return chunk;
+    }
+
+    private void checkNotCancelled() throws CommandException {
+        if (isCancelled || Thread.currentThread().isInterrupted()) {
+            throw new CommandException(MESSAGE_CANCELLED);
+        }
     }
 
     @Override
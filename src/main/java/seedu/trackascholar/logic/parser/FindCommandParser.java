@@ -15,6 +15,7 @@ import java.util.stream.Stream;
 
 import seedu.trackascholar.logic.commands.FindCommand;
 import seedu.trackascholar.logic.parser.exceptions.ParseException;
+import seedu.trackascholar.model.applicant.AllMatchPredicate;
 import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.NameContainsKeywordsPredicate;
 import seedu.trackascholar.model.applicant.ScholarshipContainsKeywordsPredicate;
@@ -33,6 +34,12 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
 
+        String[] flagAndRemainingArgs = args.trim().split("\\s+", 2);
+        boolean isExplain = flagAndRemainingArgs[0].equals(FindCommand.FLAG_EXPLAIN);
+        if (isExplain) {
+            args = flagAndRemainingArgs.length > 1 ? " " + flagAndRemainingArgs[1] : "";
+        }
+
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SCHOLARSHIP, PREFIX_MAJOR);
 
         if (!hasAnyPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_SCHOLARSHIP, PREFIX_MAJOR)
@@ -43,7 +50,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         Predicate<Applicant> predicate = parsePredicates(argMultimap);
-        return new FindCommand(predicate);
+        return new FindCommand(predicate, isExplain);
     }
 
     /**
@@ -81,18 +88,21 @@ public class FindCommandParser implements Parser<FindCommand> {
 
 
     /**
-     * Combines the given predicate list into a chain of predicate.
+     * Combines the given predicate list into a single predicate that is satisfied when all of them are.
+     * The individual predicates are kept in an {@code AllMatchPredicate} so that the model can answer them
+     * from its search index.
      *
      * @param applicantPredicateList Predicate list to combine.
-     * @return A chain of combined predicate list.
+     * @return A predicate combining the predicate list.
      */
     public static Predicate<Applicant> combinePredicateList(List<Predicate<Applicant>> applicantPredicateList) {
-        //@@author L1uY1jun-reused
-        //Reused from https://stackoverflow.com/questions/47424197/how-to
-        // -combine-all-predicates-from-listpredicatemyclass
-        // with minor modifications
-        return applicantPredicateList.stream().reduce(Predicate::and).orElse(x -> true);
-        //@@author
+        if (applicantPredicateList.isEmpty()) {
+            return x -> true;
+        }
+        if (applicantPredicateList.size() == 1) {
+            return applicantPredicateList.get(0);
+        }
+        return new AllMatchPredicate(applicantPredicateList);
     }
 
     /**
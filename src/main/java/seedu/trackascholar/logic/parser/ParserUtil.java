@@ -79,7 +79,7 @@ public class ParserUtil {
         if (!Scholarship.isValidScholarship(trimmedScholarship)) {
             throw new ParseException(Scholarship.MESSAGE_CONSTRAINTS);
         }
-        return new Scholarship(trimmedScholarship);
+        return Scholarship.of(trimmedScholarship);
     }
 
     /**
@@ -94,7 +94,7 @@ public class ParserUtil {
         if (!ApplicationStatus.isValidApplicationStatus(trimmedApplicationStatus)) {
             throw new ParseException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
-        return new ApplicationStatus(trimmedApplicationStatus);
+        return ApplicationStatus.of(trimmedApplicationStatus);
     }
 
     /**
@@ -109,7 +109,7 @@ public class ParserUtil {
         if (!ApplicationStatus.isCompletedApplicationStatus(trimmedApplicationStatus)) {
             throw new ParseException(ApplicationStatus.MESSAGE_STATUS_REJECTION);
         }
-        return new ApplicationStatus(trimmedApplicationStatus);
+        return ApplicationStatus.of(trimmedApplicationStatus);
     }
 
     /**
@@ -139,7 +139,7 @@ public class ParserUtil {
         if (!Major.isValidMajor(trimmedMajor)) {
             throw new ParseException(Major.MESSAGE_CONSTRAINTS);
         }
-        return new Major(trimmedMajor);
+        return Major.of(trimmedMajor);
     }
 
     /**
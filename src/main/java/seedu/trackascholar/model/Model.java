@@ -2,12 +2,15 @@ package seedu.trackascholar.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.trackascholar.commons.core.GuiSettings;
 import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.ApplicationStatus;
+import seedu.trackascholar.model.applicant.MergeSummary;
+import seedu.trackascholar.model.applicant.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -55,6 +58,12 @@ public interface Model {
     /** Returns the TrackAScholar. */
     ReadOnlyTrackAScholar getTrackAScholar();
 
+    /**
+     * Returns the number of changes made to the TrackAScholar data so far.
+     * The data has not changed since a previous call if the count is still the same.
+     */
+    long getModificationCount();
+
     /**
      * Returns true if an applicant with the same identity as {@code applicant} exists in TrackAScholar.
      */
@@ -70,15 +79,28 @@ public interface Model {
      * Appends the imported {@code applicantList} to the current applicant list stored in TrackAScholar.
      * Duplicate applicants conflict is resolved by replacing the current applicant in TrackAScholar with
      * the data of the imported applicant.
+     *
+     * @return the number of imported applicants added, replaced and skipped.
      */
-    void importWithReplace(ObservableList<Applicant> applicantList);
+    MergeSummary importWithReplace(List<Applicant> applicantList);
 
     /**
      * Appends the imported {@code applicantList} to the current applicant list stored in TrackAScholar.
      * Duplicate applicants conflict is resolved by keeping the current applicant in TrackAScholar and
      * disregarding the imported applicant data.
+     *
+     * @return the number of imported applicants added, replaced and skipped.
+     */
+    MergeSummary importWithoutReplace(List<Applicant> applicantList);
+
+    /**
+     * Runs {@code transaction} and returns its result, publishing all of its changes to the applicants as a single
+     * change to the applicant lists once it completes.
+     * If {@code transaction} throws an exception, all of its changes are discarded and the exception is rethrown.
+     * While {@code transaction} runs, the applicant lists keep showing the applicants as they were before it,
+     * but other methods of the model, such as {@link #hasApplicant(Applicant)}, reflect its changes.
      */
-    void importWithoutReplace(ObservableList<Applicant> applicantList);
+    <T, E extends Exception> T batch(ModelTransaction<T, E> transaction) throws E;
 
     /**
      * Deletes the given applicant.
@@ -91,6 +113,11 @@ public interface Model {
      */
     void removeApplicant(ApplicationStatus applicationStatus);
 
+    /**
+     * Returns the number of applicants in TrackAScholar with the given {@code applicationStatus}.
+     */
+    int countApplicantsByStatus(ApplicationStatus applicationStatus);
+
     /**
      * Adds the given applicant.
      * {@code applicant} must not already exist in TrackAScholar.
@@ -125,4 +152,12 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredApplicantList(Predicate<Applicant> predicate);
+
+    /**
+     * Updates the filter of the filtered applicant list to filter by the given {@code predicate}, and returns
+     * the plan used to evaluate it together with its actual row counts and timings.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    QueryPlan explainFilteredApplicantList(Predicate<Applicant> predicate);
 }
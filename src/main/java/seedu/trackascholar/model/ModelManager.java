@@ -5,6 +5,7 @@ import static seedu.trackascholar.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,6 +15,8 @@ import seedu.trackascholar.commons.core.GuiSettings;
 import seedu.trackascholar.commons.core.LogsCenter;
 import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.ApplicationStatus;
+import seedu.trackascholar.model.applicant.MergeSummary;
+import seedu.trackascholar.model.applicant.QueryPlan;
 
 /**
  * Represents the in-memory model of the TrackAScholar tracker data.
@@ -38,10 +41,32 @@ public class ModelManager implements Model {
         filteredApplicants = new FilteredList<>(this.trackAScholar.getApplicantList());
     }
 
+    /**
+     * Initializes a ModelManager that owns {@code trackAScholar} itself, instead of a copy of it.
+     */
+    private ModelManager(TrackAScholar trackAScholar, UserPrefs userPrefs) {
+        this.trackAScholar = trackAScholar;
+        this.userPrefs = userPrefs;
+        filteredApplicants = new FilteredList<>(this.trackAScholar.getApplicantList());
+    }
+
     public ModelManager() {
         this(new TrackAScholar(), new UserPrefs());
     }
 
+    /**
+     * Returns a ModelManager that takes over {@code trackAScholar} without copying it, so its applicants are
+     * neither copied nor checked for duplicates again. Meant for data that was just read from storage.
+     * The caller must not use {@code trackAScholar} afterwards, as it becomes the data of the returned model.
+     */
+    public static ModelManager adopting(TrackAScholar trackAScholar, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(trackAScholar, userPrefs);
+
+        logger.fine("Adopting TrackAScholar: " + trackAScholar + " with user prefs " + userPrefs);
+
+        return new ModelManager(trackAScholar, new UserPrefs(userPrefs));
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -89,6 +114,11 @@ public class ModelManager implements Model {
         return trackAScholar;
     }
 
+    @Override
+    public long getModificationCount() {
+        return trackAScholar.getModificationCount();
+    }
+
     @Override
     public boolean hasApplicant(Applicant applicant) {
         requireNonNull(applicant);
@@ -102,24 +132,43 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void importWithReplace(ObservableList<Applicant> applicantList) {
+    public MergeSummary importWithReplace(List<Applicant> applicantList) {
         requireNonNull(applicantList);
-        for (Applicant a: applicantList) {
-            if (!this.hasApplicant(a)) {
-                this.addApplicant(a);
-            } else {
-                Applicant existingApplicant = this.findSimilarApplicant(a);
-                this.setApplicant(existingApplicant, a);
-            }
-        }
+        return importApplicants(applicantList, true);
     }
 
     @Override
-    public void importWithoutReplace(ObservableList<Applicant> applicantList) {
+    public MergeSummary importWithoutReplace(List<Applicant> applicantList) {
         requireNonNull(applicantList);
-        for (Applicant a: applicantList) {
-            if (!this.hasApplicant(a)) {
-                this.addApplicant(a);
+        return importApplicants(applicantList, false);
+    }
+
+    /**
+     * Merges {@code applicantList} into TrackAScholar and, like {@link #addApplicant(Applicant)}, shows all
+     * applicants if any were added.
+     */
+    private MergeSummary importApplicants(List<Applicant> applicantList, boolean isReplacing) {
+        MergeSummary mergeSummary = trackAScholar.mergeApplicants(applicantList, isReplacing);
+        if (mergeSummary.getAddedCount() > 0) {
+            updateFilteredApplicantList(PREDICATE_SHOW_ALL_APPLICANTS);
+        }
+        return mergeSummary;
+    }
+
+    @Override
+    public <T, E extends Exception> T batch(ModelTransaction<T, E> transaction) throws E {
+        requireNonNull(transaction);
+        trackAScholar.beginBatch();
+        boolean isCommitted = false;
+        try {
+            T result = transaction.run();
+            trackAScholar.commitBatch();
+            isCommitted = true;
+            return result;
+        } finally {
+            if (!isCommitted) {
+                logger.fine("Rolling back changes to TrackAScholar");
+                trackAScholar.rollbackBatch();
             }
         }
     }
@@ -134,6 +183,12 @@ public class ModelManager implements Model {
         trackAScholar.removeApplicantByStatus(applicationStatus);
     }
 
+    @Override
+    public int countApplicantsByStatus(ApplicationStatus applicationStatus) {
+        requireNonNull(applicationStatus);
+        return trackAScholar.countApplicantsByStatus(applicationStatus);
+    }
+
     @Override
     public void addApplicant(Applicant applicant) {
         trackAScholar.addApplicant(applicant);
@@ -182,7 +237,15 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredApplicantList(Predicate<Applicant> predicate) {
         requireNonNull(predicate);
-        filteredApplicants.setPredicate(predicate);
+        filteredApplicants.setPredicate(trackAScholar.planQuery(predicate).getPredicate());
+    }
+
+    @Override
+    public QueryPlan explainFilteredApplicantList(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        QueryPlan queryPlan = trackAScholar.explainQuery(predicate);
+        filteredApplicants.setPredicate(queryPlan.getPredicate());
+        return queryPlan;
     }
 
     @Override
@@ -0,0 +1,16 @@
+package seedu.trackascholar.model;
+
+/**
+ * A group of changes to a {@code Model} that is run by {@link Model#batch(ModelTransaction)}.
+ *
+ * @param <T> type of the result of the changes.
+ * @param <E> type of the checked exception that the changes may throw.
+ */
+@FunctionalInterface
+public interface ModelTransaction<T, E extends Exception> {
+
+    /**
+     * Makes the changes and returns their result.
+     */
+    T run() throws E;
+}
@@ -3,6 +3,7 @@ package seedu.trackascholar.model;
 import java.nio.file.Path;
 
 import seedu.trackascholar.commons.core.GuiSettings;
+import seedu.trackascholar.commons.core.StorageMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getTrackAScholarFilePath();
 
+    StorageMode getTrackAScholarStorageMode();
+
+    /**
+     * Returns true if the app should be shown before the data file is loaded, loading its applicants in the
+     * background.
+     */
+    boolean isProgressiveStartup();
+
 }
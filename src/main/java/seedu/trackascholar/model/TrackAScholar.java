@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.ApplicationStatus;
+import seedu.trackascholar.model.applicant.MergeSummary;
+import seedu.trackascholar.model.applicant.QueryPlan;
 import seedu.trackascholar.model.applicant.UniqueApplicantList;
 
 /**
@@ -18,6 +21,13 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
 
     private final UniqueApplicantList applicants;
 
+    /*
+     * The number of changes made to the applicants so far. Operations that end up changing nothing,
+     * such as removing applicants when none match, do not count.
+     */
+    private long modificationCount;
+    private long modificationCountBeforeBatch;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -47,6 +57,7 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
      */
     public void setApplicants(List<Applicant> applicants) {
         this.applicants.setApplicants(applicants);
+        modificationCount++;
     }
 
     /**
@@ -74,6 +85,7 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
      */
     public void addApplicant(Applicant p) {
         applicants.add(p);
+        modificationCount++;
     }
 
     /**
@@ -85,6 +97,21 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
     public void setApplicant(Applicant target, Applicant editedApplicant) {
         requireNonNull(editedApplicant);
         applicants.setApplicant(target, editedApplicant);
+        modificationCount++;
+    }
+
+    /**
+     * Merges {@code importedApplicants} into this {@code TrackAScholar} in a single change, replacing applicants
+     * with the same identity if {@code isReplacing} is true and keeping them otherwise.
+     *
+     * @return the number of applicants added, replaced and skipped.
+     */
+    public MergeSummary mergeApplicants(List<Applicant> importedApplicants, boolean isReplacing) {
+        MergeSummary mergeSummary = applicants.merge(importedApplicants, isReplacing);
+        if (mergeSummary.hasChanges()) {
+            modificationCount++;
+        }
+        return mergeSummary;
     }
 
     /**
@@ -93,13 +120,38 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
      */
     public void removeApplicant(Applicant key) {
         applicants.remove(key);
+        modificationCount++;
     }
 
     /**
      * Removes all applicants with matching {@code status} from this {@code TrackAScholar}.
      */
     public void removeApplicantByStatus(ApplicationStatus status) {
-        applicants.removeByStatus(status);
+        if (applicants.removeByStatus(status) > 0) {
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Returns the number of applicants in this {@code TrackAScholar} with the given application {@code status}.
+     */
+    public int countApplicantsByStatus(ApplicationStatus status) {
+        requireNonNull(status);
+        return applicants.countByStatus(status);
+    }
+
+    /**
+     * Removes all applicants that satisfy {@code predicate} from this {@code TrackAScholar} in a single pass.
+     *
+     * @return the number of applicants removed.
+     */
+    public int removeApplicants(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        int removedCount = applicants.removeIf(predicate);
+        if (removedCount > 0) {
+            modificationCount++;
+        }
+        return removedCount;
     }
 
     /**
@@ -110,6 +162,37 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
         requireNonNull(comparator);
 
         applicants.sort(comparator);
+        modificationCount++;
+    }
+
+    /**
+     * Starts a batch of changes to the applicants, which are published to the applicant list as a single change
+     * when the batch is committed. Batches started within a batch are part of the outer batch.
+     *
+     * @see UniqueApplicantList#beginBatch()
+     */
+    public void beginBatch() {
+        if (!applicants.isInBatch()) {
+            modificationCountBeforeBatch = modificationCount;
+        }
+        applicants.beginBatch();
+    }
+
+    /**
+     * Ends the current batch, publishing its changes if it is the outermost batch.
+     */
+    public void commitBatch() {
+        applicants.commitBatch();
+    }
+
+    /**
+     * Discards all changes made since the outermost batch began, which then no longer count as modifications.
+     */
+    public void rollbackBatch() {
+        if (applicants.isInBatch()) {
+            applicants.rollbackBatch();
+            modificationCount = modificationCountBeforeBatch;
+        }
     }
 
     /**
@@ -126,6 +209,33 @@ public class TrackAScholar implements ReadOnlyTrackAScholar {
         return applicants.findSimilarApplicant(applicant);
     }
 
+    /**
+     * Returns the plan to evaluate {@code predicate} over the applicants in this {@code TrackAScholar}, answering
+     * keyword searches from its search index. The predicate of the returned plan must only be tested on applicants
+     * in this TrackAScholar.
+     */
+    public QueryPlan planQuery(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        return applicants.planQuery(predicate);
+    }
+
+    /**
+     * Returns the plan to evaluate {@code predicate} after executing it, with actual row counts and timings.
+     */
+    public QueryPlan explainQuery(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        return applicants.explainQuery(predicate);
+    }
+
+    /**
+     * Returns the number of changes made to the applicants of this {@code TrackAScholar} so far.
+     * The count increases with every change, and returns to its earlier value when a batch is rolled back along
+     * with the applicants, so an unchanged count means that the applicants are the same as they were then.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     //// util methods
 
     @Override
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.trackascholar.commons.core.GuiSettings;
+import seedu.trackascholar.commons.core.StorageMode;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path trackAScholarFilePath = Paths.get("data", "trackAScholar.json");
+    private StorageMode trackAScholarStorageMode = StorageMode.JSON;
+    private boolean isProgressiveStartup = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTrackAScholarFilePath(newUserPrefs.getTrackAScholarFilePath());
+        setTrackAScholarStorageMode(newUserPrefs.getTrackAScholarStorageMode());
+        setProgressiveStartup(newUserPrefs.isProgressiveStartup());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.trackAScholarFilePath = trackAScholarFilePath;
     }
 
+    public StorageMode getTrackAScholarStorageMode() {
+        return trackAScholarStorageMode;
+    }
+
+    public void setTrackAScholarStorageMode(StorageMode trackAScholarStorageMode) {
+        requireNonNull(trackAScholarStorageMode);
+        this.trackAScholarStorageMode = trackAScholarStorageMode;
+    }
+
+    public boolean isProgressiveStartup() {
+        return isProgressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean isProgressiveStartup) {
+        this.isProgressiveStartup = isProgressiveStartup;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +90,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && trackAScholarFilePath.equals(o.trackAScholarFilePath);
+                && trackAScholarFilePath.equals(o.trackAScholarFilePath)
+                && trackAScholarStorageMode.equals(o.trackAScholarStorageMode)
+                && isProgressiveStartup == o.isProgressiveStartup;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, trackAScholarFilePath);
+        return Objects.hash(guiSettings, trackAScholarFilePath, trackAScholarStorageMode, isProgressiveStartup);
     }
 
     @Override
@@ -81,6 +105,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + trackAScholarFilePath);
+        sb.append("\nLocal data storage mode : " + trackAScholarStorageMode);
+        sb.append("\nProgressive startup : " + isProgressiveStartup);
         return sb.toString();
     }
 
@@ -0,0 +1,49 @@
+package seedu.trackascholar.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that an {@code Applicant} satisfies all of the predicates given.
+ * Unlike a chain of {@link Predicate#and(Predicate)}, the individual predicates remain visible so that they
+ * can be evaluated through an index.
+ */
+public class AllMatchPredicate implements Predicate<Applicant> {
+    private final List<Predicate<Applicant>> predicates;
+
+    /**
+     * Constructs an {@code AllMatchPredicate} from the given non-empty list of {@code predicates}.
+     */
+    public AllMatchPredicate(List<Predicate<Applicant>> predicates) {
+        requireNonNull(predicates);
+        assert !predicates.isEmpty();
+        this.predicates = predicates;
+    }
+
+    /**
+     * Returns an unmodifiable view of the predicates that must all be satisfied.
+     */
+    public List<Predicate<Applicant>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        for (Predicate<Applicant> predicate : predicates) {
+            if (!predicate.test(applicant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllMatchPredicate // instanceof handles nulls
+                && predicates.equals(((AllMatchPredicate) other).predicates)); // state check
+    }
+}
@@ -2,13 +2,12 @@ package seedu.trackascholar.model.applicant;
 
 import static seedu.trackascholar.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.trackascholar.model.major.Major;
+import seedu.trackascholar.model.major.MajorSet;
 
 /**
  * Represents an Applicant in TrackAScholar.
@@ -16,31 +15,37 @@ import seedu.trackascholar.model.major.Major;
  */
 public class Applicant {
 
+    private static final Pin PINNED = new Pin(true);
+    private static final Pin NOT_PINNED = new Pin(false);
+    private static final int PIN_BIT = 1;
+
     // Identity fields
     private final Name name;
-    private final Phone phone;
+    private final int phoneDigits;
     private final Email email;
 
     // Data fields
-    private final ApplicationStatus applicationStatus;
     private final Scholarship scholarship;
-    private final Pin pin;
+    /*
+     * The ordinal of the application status, shifted left by one bit, with the lowest bit set if the applicant
+     * is pinned. Application statuses and pins hold no other state, so both are recreated from this on demand.
+     */
+    private final byte statusAndPin;
 
-    private final Set<Major> majors = new HashSet<>();
+    private final Set<Major> majors;
 
     /**
      * Every field must be present and not null.
      */
     public Applicant(Name name, Phone phone, Email email, Scholarship scholarship,
                      ApplicationStatus applicationStatus, Set<Major> majors, Pin pin) {
-        requireAllNonNull(name, phone, email, scholarship, applicationStatus, majors);
+        requireAllNonNull(name, phone, email, scholarship, applicationStatus, majors, pin);
         this.name = name;
-        this.phone = phone;
+        this.phoneDigits = phone.toDigits();
         this.email = email;
         this.scholarship = scholarship;
-        this.applicationStatus = applicationStatus;
-        this.pin = pin;
-        this.majors.addAll(majors);
+        this.statusAndPin = (byte) (applicationStatus.getOrdinal() << 1 | (pin.getHasPinned() ? PIN_BIT : 0));
+        this.majors = MajorSet.copyOf(majors);
     }
 
     /**
@@ -49,14 +54,7 @@ public class Applicant {
 
     public Applicant(Name name, Phone phone, Email email, Scholarship scholarship,
                      ApplicationStatus applicationStatus, Set<Major> majors) {
-        requireAllNonNull(name, phone, email, scholarship, applicationStatus, majors);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.scholarship = scholarship;
-        this.applicationStatus = applicationStatus;
-        this.pin = new Pin(false);
-        this.majors.addAll(majors);
+        this(name, phone, email, scholarship, applicationStatus, majors, NOT_PINNED);
     }
 
     public Name getName() {
@@ -68,11 +66,21 @@ public class Applicant {
     }
 
     public Phone getPhone() {
-        return phone;
+        return new Phone(phoneDigits);
     }
 
     public String getPhoneNumber() {
-        return phone.getPhoneNumber();
+        return Phone.toPhoneNumber(phoneDigits);
+    }
+
+    /**
+     * Returns the phone number as the int that it is stored as, which callers that only need its digits can use
+     * without creating a {@code Phone} or a string.
+     *
+     * @see Phone#toPhoneNumber(int)
+     */
+    public int getPhoneValue() {
+        return phoneDigits;
     }
 
     public Email getEmail() {
@@ -92,19 +100,19 @@ public class Applicant {
     }
 
     public ApplicationStatus getApplicationStatus() {
-        return applicationStatus;
+        return ApplicationStatus.fromOrdinal(statusAndPin >> 1);
     }
 
     public String getStatusOfApplication() {
-        return applicationStatus.getStatusOfApplication();
+        return getApplicationStatus().getStatusOfApplication();
     }
 
     public Pin getPin() {
-        return pin;
+        return getHasPinned() ? PINNED : NOT_PINNED;
     }
 
     public boolean getHasPinned() {
-        return pin.getHasPinned();
+        return (statusAndPin & PIN_BIT) != 0;
     }
 
     /**
@@ -112,7 +120,7 @@ public class Applicant {
      * if modification is attempted.
      */
     public Set<Major> getMajors() {
-        return Collections.unmodifiableSet(majors);
+        return majors;
     }
 
     /**
@@ -133,7 +141,7 @@ public class Applicant {
      */
     public boolean isMatchingApplicationStatus(ApplicationStatus otherStatus) {
         return otherStatus != null
-                && otherStatus.equals(applicationStatus);
+                && otherStatus.equals(getApplicationStatus());
     }
 
     /**
@@ -204,18 +212,17 @@ public class Applicant {
 
         Applicant otherApplicant = (Applicant) other;
         return otherApplicant.getName().equals(getName())
-                && otherApplicant.getPhone().equals(getPhone())
+                && otherApplicant.phoneDigits == phoneDigits
                 && otherApplicant.getEmail().equals(getEmail())
                 && otherApplicant.getScholarship().equals(getScholarship())
-                && otherApplicant.getApplicationStatus().equals(getApplicationStatus())
-                && otherApplicant.getPin().equals(getPin())
+                && otherApplicant.statusAndPin == statusAndPin
                 && otherApplicant.getMajors().equals(getMajors());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, scholarship, applicationStatus, majors, pin);
+        return Objects.hash(name, phoneDigits, email, scholarship, statusAndPin, majors);
     }
 
     @Override
@@ -223,7 +230,7 @@ public class Applicant {
         final StringBuilder builder = new StringBuilder();
         builder.append(getName())
                 .append("\n Phone: ")
-                .append(getPhone())
+                .append(getPhoneNumber())
                 .append("\n Email: ")
                 .append(getEmail())
                 .append("\n Scholarship: ")
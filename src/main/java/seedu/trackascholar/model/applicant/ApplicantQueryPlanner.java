@@ -0,0 +1,168 @@
+package seedu.trackascholar.model.applicant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.trackascholar.model.applicant.QueryPlan.Operation;
+import seedu.trackascholar.model.applicant.QueryPlan.Step;
+
+/**
+ * Chooses how a search over a list of applicants is evaluated.
+ * Keyword clauses are answered from the search index and ordered by their estimated number of matching applicants,
+ * so that the most selective clause drives the search and the remaining clauses are applied as residual filters
+ * on fewer applicants. Clauses that cannot use the index are applied last, in their original order.
+ */
+class ApplicantQueryPlanner {
+
+    private static final String CLAUSE_ALL_APPLICANTS = "all applicants";
+    private static final String CLAUSE_CUSTOM_CONDITION = "custom condition";
+    private static final String CLAUSE_KEYWORDS = "%1$s contains any of %2$s";
+
+    private final ApplicantSearchIndex searchIndex;
+    private final List<Applicant> applicants;
+
+    /**
+     * Constructs a planner for searches over {@code applicants}, which must be indexed in {@code searchIndex}.
+     */
+    ApplicantQueryPlanner(ApplicantSearchIndex searchIndex, List<Applicant> applicants) {
+        this.searchIndex = searchIndex;
+        this.applicants = applicants;
+    }
+
+    /**
+     * Returns the plan to evaluate {@code predicate}, without executing it.
+     */
+    QueryPlan plan(Predicate<Applicant> predicate) {
+        long startTime = System.nanoTime();
+        List<Clause> clauses = orderBySelectivity(toClauses(predicate));
+        return toQueryPlan(clauses, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the plan to evaluate {@code predicate}, after executing it step by step to record the actual number
+     * of applicants produced by, and the time taken by, every step.
+     */
+    QueryPlan explain(Predicate<Applicant> predicate) {
+        long startTime = System.nanoTime();
+        List<Clause> clauses = orderBySelectivity(toClauses(predicate));
+        QueryPlan queryPlan = toQueryPlan(clauses, System.nanoTime() - startTime);
+
+        List<Step> steps = queryPlan.getSteps();
+        int stepIndex = 0;
+        int clauseIndex = 0;
+        Collection<Applicant> candidates;
+
+        startTime = System.nanoTime();
+        if (isIndexed(clauses.get(0))) {
+            IndexedKeywordsPredicate drivingPredicate = (IndexedKeywordsPredicate) clauses.get(0).predicate;
+            candidates = searchIndex.findAny(drivingPredicate.getField(), drivingPredicate.getNormalizedKeywords());
+            clauseIndex++;
+        } else {
+            candidates = new ArrayList<>(applicants);
+        }
+        steps.get(stepIndex++).recordExecution(candidates.size(), System.nanoTime() - startTime);
+
+        for (; clauseIndex < clauses.size(); clauseIndex++) {
+            Predicate<Applicant> residualPredicate = clauses.get(clauseIndex).predicate;
+            startTime = System.nanoTime();
+            candidates = candidates.stream().filter(residualPredicate).collect(Collectors.toList());
+            steps.get(stepIndex++).recordExecution(candidates.size(), System.nanoTime() - startTime);
+        }
+        return queryPlan;
+    }
+
+    private List<Clause> toClauses(Predicate<Applicant> predicate) {
+        List<Predicate<Applicant>> predicates = predicate instanceof AllMatchPredicate
+                ? ((AllMatchPredicate) predicate).getPredicates()
+                : Collections.singletonList(predicate);
+
+        List<Clause> clauses = new ArrayList<>();
+        for (Predicate<Applicant> clausePredicate : predicates) {
+            clauses.add(toClause(clausePredicate));
+        }
+        return clauses;
+    }
+
+    private Clause toClause(Predicate<Applicant> predicate) {
+        if (predicate instanceof FieldContainsKeywordsPredicate) {
+            FieldContainsKeywordsPredicate keywordsPredicate = (FieldContainsKeywordsPredicate) predicate;
+            String description = String.format(CLAUSE_KEYWORDS,
+                    keywordsPredicate.getField().name().toLowerCase(), keywordsPredicate.getKeywords());
+            if (keywordsPredicate.getKeywords().stream().allMatch(ApplicantSearchIndex::isSearchableKeyword)) {
+                IndexedKeywordsPredicate indexedPredicate =
+                        new IndexedKeywordsPredicate(searchIndex, keywordsPredicate);
+                long estimatedRows = Math.min(applicants.size(),
+                        searchIndex.estimateAny(indexedPredicate.getField(), indexedPredicate.getNormalizedKeywords()));
+                return new Clause(indexedPredicate, description, estimatedRows);
+            }
+            return new Clause(predicate, description, applicants.size());
+        }
+        return new Clause(predicate, CLAUSE_CUSTOM_CONDITION, applicants.size());
+    }
+
+    /**
+     * Returns the clauses with index-backed clauses first, from the fewest to the most estimated matches,
+     * followed by the other clauses in their original order.
+     */
+    private static List<Clause> orderBySelectivity(List<Clause> clauses) {
+        List<Clause> orderedClauses = new ArrayList<>(clauses);
+        orderedClauses.sort(Comparator.comparing((Clause clause) -> !isIndexed(clause))
+                .thenComparingLong(clause -> isIndexed(clause) ? clause.estimatedRows : 0));
+        return orderedClauses;
+    }
+
+    private QueryPlan toQueryPlan(List<Clause> clauses, long planningNanos) {
+        List<Step> steps = new ArrayList<>();
+        int totalRows = applicants.size();
+        long estimatedRows;
+        int firstResidualClause;
+
+        if (isIndexed(clauses.get(0))) {
+            estimatedRows = clauses.get(0).estimatedRows;
+            steps.add(new Step(Operation.INDEX_LOOKUP, clauses.get(0).description, estimatedRows));
+            firstResidualClause = 1;
+        } else {
+            estimatedRows = totalRows;
+            steps.add(new Step(Operation.FULL_SCAN, CLAUSE_ALL_APPLICANTS, estimatedRows));
+            firstResidualClause = 0;
+        }
+
+        for (Clause clause : clauses.subList(firstResidualClause, clauses.size())) {
+            // assumes that clauses are independent of each other
+            estimatedRows = totalRows == 0 ? 0 : Math.round((double) estimatedRows * clause.estimatedRows / totalRows);
+            steps.add(new Step(Operation.FILTER, clause.description, estimatedRows));
+        }
+
+        List<Predicate<Applicant>> orderedPredicates = clauses.stream()
+                .map(clause -> clause.predicate)
+                .collect(Collectors.toList());
+        Predicate<Applicant> predicate = orderedPredicates.size() == 1
+                ? orderedPredicates.get(0)
+                : new AllMatchPredicate(orderedPredicates);
+        return new QueryPlan(steps, predicate, planningNanos);
+    }
+
+    private static boolean isIndexed(Clause clause) {
+        return clause.predicate instanceof IndexedKeywordsPredicate;
+    }
+
+    /**
+     * A single condition of a search, with the predicate chosen to evaluate it.
+     */
+    private static class Clause {
+        private final Predicate<Applicant> predicate;
+        private final String description;
+        private final long estimatedRows;
+
+        Clause(Predicate<Applicant> predicate, String description, long estimatedRows) {
+            this.predicate = predicate;
+            this.description = description;
+            this.estimatedRows = estimatedRows;
+        }
+    }
+}
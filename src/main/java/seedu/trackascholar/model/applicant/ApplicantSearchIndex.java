@@ -0,0 +1,171 @@
+package seedu.trackascholar.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.trackascholar.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of an applicant's searchable fields to the applicants containing them.
+ * A word of a field is a maximal run of non-whitespace characters, matching the words compared by
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class ApplicantSearchIndex {
+
+    /**
+     * The fields of an applicant that can be searched through the index.
+     */
+    public enum Field {
+        NAME(applicant -> applicant.getName().getFoldedWords()),
+        SCHOLARSHIP(applicant -> applicant.getScholarship().getFoldedWords()),
+        MAJOR(applicant -> applicant.getMajors().stream()
+                .flatMap(major -> major.getFoldedWords().stream())
+                .collect(Collectors.toList()));
+
+        private final Function<Applicant, List<String>> foldedWordsExtractor;
+
+        Field(Function<Applicant, List<String>> foldedWordsExtractor) {
+            this.foldedWordsExtractor = foldedWordsExtractor;
+        }
+
+        /**
+         * Returns the case-folded words of this field for the given {@code applicant}.
+         */
+        public List<String> getFoldedWords(Applicant applicant) {
+            return foldedWordsExtractor.apply(applicant);
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Applicant>>> postings = new EnumMap<>(Field.class);
+
+    /**
+     * Constructs an empty {@code ApplicantSearchIndex}.
+     */
+    public ApplicantSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the form of {@code word} that is stored in and looked up from the index.
+     * This is the trimmed, case-folded form of {@code word}, so two words have the same normalized form
+     * if and only if they are equal ignoring case.
+     *
+     * @see StringUtil#foldCase(String)
+     */
+    public static String normalize(String word) {
+        return StringUtil.foldCase(word.trim());
+    }
+
+    /**
+     * Returns true if {@code keyword} can be looked up in the index, i.e. it is a single non-empty word.
+     */
+    public static boolean isSearchableKeyword(String keyword) {
+        String trimmedKeyword = keyword.trim();
+        return !trimmedKeyword.isEmpty() && trimmedKeyword.split("\\s+").length == 1;
+    }
+
+    /**
+     * Adds every word in the searchable fields of {@code applicant} to the index.
+     */
+    public void add(Applicant applicant) {
+        requireNonNull(applicant);
+        for (Field field : Field.values()) {
+            Map<String, Set<Applicant>> fieldPostings = postings.get(field);
+            for (String foldedWord : field.getFoldedWords(applicant)) {
+                fieldPostings.computeIfAbsent(foldedWord, unused -> newIdentitySet()).add(applicant);
+            }
+        }
+    }
+
+    /**
+     * Removes every word in the searchable fields of {@code applicant} from the index.
+     */
+    public void remove(Applicant applicant) {
+        requireNonNull(applicant);
+        for (Field field : Field.values()) {
+            Map<String, Set<Applicant>> fieldPostings = postings.get(field);
+            for (String foldedWord : field.getFoldedWords(applicant)) {
+                Set<Applicant> posting = fieldPostings.get(foldedWord);
+                if (posting != null) {
+                    posting.remove(applicant);
+                    if (posting.isEmpty()) {
+                        fieldPostings.remove(foldedWord);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all applicants from the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns an unmodifiable view of the applicants whose {@code field} contains the already normalized
+     * {@code normalizedWord}.
+     */
+    public Set<Applicant> getPosting(Field field, String normalizedWord) {
+        Set<Applicant> posting = postings.get(field).get(normalizedWord);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns true if the {@code field} of {@code applicant} contains any of the already normalized
+     * {@code normalizedKeywords}.
+     */
+    public boolean containsAny(Field field, Collection<String> normalizedKeywords, Applicant applicant) {
+        Map<String, Set<Applicant>> fieldPostings = postings.get(field);
+        for (String keyword : normalizedKeywords) {
+            Set<Applicant> posting = fieldPostings.get(keyword);
+            if (posting != null && posting.contains(applicant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the estimated number of applicants whose {@code field} contains any of the already normalized
+     * {@code normalizedKeywords}, computed from the posting sizes without looking at the applicants.
+     * The estimate is never lower than the actual number.
+     */
+    public long estimateAny(Field field, Collection<String> normalizedKeywords) {
+        Map<String, Set<Applicant>> fieldPostings = postings.get(field);
+        long estimatedSize = 0;
+        for (String keyword : normalizedKeywords) {
+            Set<Applicant> posting = fieldPostings.get(keyword);
+            estimatedSize += posting == null ? 0 : posting.size();
+        }
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the union of the postings of the already normalized {@code normalizedKeywords} in {@code field}.
+     */
+    public Set<Applicant> findAny(Field field, Collection<String> normalizedKeywords) {
+        Set<Applicant> matchingApplicants = newIdentitySet();
+        for (String keyword : normalizedKeywords) {
+            matchingApplicants.addAll(getPosting(field, keyword));
+        }
+        return matchingApplicants;
+    }
+
+    private static Set<Applicant> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
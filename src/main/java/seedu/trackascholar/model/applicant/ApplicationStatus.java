@@ -3,6 +3,8 @@ package seedu.trackascholar.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
+import seedu.trackascholar.commons.util.InternPool;
+
 /**
  * Represents an Applicant's application status in TrackAScholar.
  * Guarantees: immutable; is valid as declared in {@link #isValidApplicationStatus(String)}
@@ -19,6 +21,13 @@ public class ApplicationStatus implements Comparable<ApplicationStatus> {
     public static final String ACCEPTED = "accepted";
     public static final String REJECTED = "rejected";
 
+    private static final InternPool<ApplicationStatus> INTERN_POOL = new InternPool<>(ApplicationStatus::new);
+
+    /*
+     * The shared application statuses, indexed by their ordinal as returned by {@link #getOrdinal()}.
+     */
+    private static final ApplicationStatus[] STATUSES_BY_ORDINAL = {of(PENDING), of(ACCEPTED), of(REJECTED)};
+
     private final String status;
 
     /**
@@ -28,14 +37,62 @@ public class ApplicationStatus implements Comparable<ApplicationStatus> {
      */
     public ApplicationStatus(String status) {
         requireNonNull(status);
-        String statusToLowerCase = status.toLowerCase();
-        checkArgument(isValidApplicationStatus(statusToLowerCase), MESSAGE_CONSTRAINTS);
-        if (statusToLowerCase.equals(ACCEPTED)) {
-            this.status = ACCEPTED;
-        } else if (statusToLowerCase.equals(REJECTED)) {
-            this.status = REJECTED;
+        checkArgument(isValidApplicationStatus(status), MESSAGE_CONSTRAINTS);
+        this.status = toStatusConstant(status);
+    }
+
+    /**
+     * Returns the shared {@code ApplicationStatus} for the given status, creating it if it does not exist yet.
+     * Application statuses created this way are the same instance whenever they are equal.
+     *
+     * @param status A status.
+     */
+    public static ApplicationStatus of(String status) {
+        requireNonNull(status);
+        checkArgument(isValidApplicationStatus(status), MESSAGE_CONSTRAINTS);
+        return INTERN_POOL.intern(toStatusConstant(status));
+    }
+
+    /**
+     * Returns the constant among {@code PENDING}, {@code ACCEPTED} and {@code REJECTED} that is equal to
+     * the valid {@code status}, ignoring case.
+     */
+    private static String toStatusConstant(String status) {
+        if (status.equalsIgnoreCase(ACCEPTED)) {
+            return ACCEPTED;
+        } else if (status.equalsIgnoreCase(REJECTED)) {
+            return REJECTED;
+        } else {
+            return PENDING;
+        }
+    }
+
+    /**
+     * Returns the pool that holds the shared instances returned by {@link #of(String)}.
+     */
+    public static InternPool<ApplicationStatus> getInternPool() {
+        return INTERN_POOL;
+    }
+
+    /**
+     * Returns the shared {@code ApplicationStatus} with the given {@code ordinal}.
+     *
+     * @see #getOrdinal()
+     */
+    static ApplicationStatus fromOrdinal(int ordinal) {
+        return STATUSES_BY_ORDINAL[ordinal];
+    }
+
+    /**
+     * Returns 0 for a pending, 1 for an accepted and 2 for a rejected application status.
+     */
+    int getOrdinal() {
+        if (status.equals(PENDING)) {
+            return 0;
+        } else if (status.equals(ACCEPTED)) {
+            return 1;
         } else {
-            this.status = PENDING;
+            return 2;
         }
     }
 
@@ -15,10 +15,14 @@ public class ApplicationStatusPredicate implements Predicate<Applicant> {
         this.keyword = keyword;
     }
 
+    /**
+     * Returns true if the applicant's status matches the keyword.
+     * An application status is always a single word, so a direct comparison gives the same result as
+     * {@link StringUtil#containsWordIgnoreCase(String, String)} without splitting the status on every test.
+     */
     @Override
     public boolean test(Applicant applicant) {
-        return StringUtil.containsWordIgnoreCase(applicant
-                .getStatusOfApplication(), keyword);
+        return applicant.getStatusOfApplication().equalsIgnoreCase(keyword.trim());
     }
 
     @Override
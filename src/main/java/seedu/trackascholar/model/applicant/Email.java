@@ -3,6 +3,8 @@ package seedu.trackascholar.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
+import seedu.trackascholar.commons.util.ValidationUtil;
+
 /**
  * Represents an Applicant's email in TrackAScholar.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -29,7 +31,8 @@ public class Email {
             + "(-" + ALPHANUMERIC_NO_UNDERSCORE + ")*";
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
-    private static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    // The whole format, which isValidEmail(String) checks for without a regular expression
+    static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     private final String value;
 
@@ -39,11 +42,27 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} for {@code email} without validating it.
+     * Must only be used for email addresses that are known to be valid.
+     *
+     * @see Name#ofTrusted(String)
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns the email address of applicant.
      */
@@ -55,7 +74,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isEmail(test, SPECIAL_CHARACTERS);
     }
 
     @Override
@@ -0,0 +1,21 @@
+package seedu.trackascholar.model.applicant;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a searchable field of an {@code Applicant} contains any of the keywords given.
+ * Such predicates can be answered from an {@code ApplicantSearchIndex} instead of being tested on every applicant.
+ */
+public interface FieldContainsKeywordsPredicate extends Predicate<Applicant> {
+
+    /**
+     * Returns the field of the applicant that is searched.
+     */
+    ApplicantSearchIndex.Field getField();
+
+    /**
+     * Returns the keywords searched for, any of which should be contained in the field.
+     */
+    List<String> getKeywords();
+}
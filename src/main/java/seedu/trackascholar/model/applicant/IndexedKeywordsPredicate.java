@@ -0,0 +1,47 @@
+package seedu.trackascholar.model.applicant;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates a {@code FieldContainsKeywordsPredicate} by looking up the postings of its keywords in an
+ * {@code ApplicantSearchIndex}, instead of splitting the field of every applicant tested.
+ * The index is read live, so the result stays correct as applicants are added, edited and removed.
+ */
+class IndexedKeywordsPredicate implements Predicate<Applicant> {
+    private final ApplicantSearchIndex searchIndex;
+    private final FieldContainsKeywordsPredicate predicate;
+    private final List<String> normalizedKeywords;
+
+    IndexedKeywordsPredicate(ApplicantSearchIndex searchIndex, FieldContainsKeywordsPredicate predicate) {
+        assert predicate.getKeywords().stream().allMatch(ApplicantSearchIndex::isSearchableKeyword);
+        this.searchIndex = searchIndex;
+        this.predicate = predicate;
+        this.normalizedKeywords = predicate.getKeywords().stream()
+                .map(ApplicantSearchIndex::normalize)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    ApplicantSearchIndex.Field getField() {
+        return predicate.getField();
+    }
+
+    List<String> getNormalizedKeywords() {
+        return normalizedKeywords;
+    }
+
+    @Override
+    public boolean test(Applicant applicant) {
+        return searchIndex.containsAny(predicate.getField(), normalizedKeywords, applicant);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedKeywordsPredicate // instanceof handles nulls
+                && searchIndex == ((IndexedKeywordsPredicate) other).searchIndex
+                && predicate.equals(((IndexedKeywordsPredicate) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.trackascholar.model.applicant;
+
+/**
+ * The number of imported applicants that were added, that replaced an existing applicant, and that were skipped
+ * when merging them into a list of applicants.
+ */
+public class MergeSummary {
+
+    public static final MergeSummary EMPTY = new MergeSummary(0, 0, 0);
+
+    private final int addedCount;
+    private final int replacedCount;
+    private final int skippedCount;
+
+    /**
+     * Constructs a {@code MergeSummary} with the given counts.
+     */
+    public MergeSummary(int addedCount, int replacedCount, int skippedCount) {
+        this.addedCount = addedCount;
+        this.replacedCount = replacedCount;
+        this.skippedCount = skippedCount;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    public int getReplacedCount() {
+        return replacedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Returns true if the merge changed the list of applicants.
+     */
+    public boolean hasChanges() {
+        return addedCount > 0 || replacedCount > 0;
+    }
+
+    /**
+     * Returns the summary of this merge followed by the {@code other} merge.
+     */
+    public MergeSummary plus(MergeSummary other) {
+        return new MergeSummary(addedCount + other.addedCount, replacedCount + other.replacedCount,
+                skippedCount + other.skippedCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeSummary // instanceof handles nulls
+                && addedCount == ((MergeSummary) other).addedCount
+                && replacedCount == ((MergeSummary) other).replacedCount
+                && skippedCount == ((MergeSummary) other).skippedCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * addedCount + replacedCount) + skippedCount;
+    }
+
+    @Override
+    public String toString() {
+        return addedCount + " added, " + replacedCount + " replaced, " + skippedCount + " skipped";
+    }
+}
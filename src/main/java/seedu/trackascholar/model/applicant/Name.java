@@ -3,6 +3,11 @@ package seedu.trackascholar.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.trackascholar.commons.util.StringUtil;
+import seedu.trackascholar.commons.util.ValidationUtil;
+
 /**
  * Represents an Applicant's name in TrackAScholar.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -15,10 +20,13 @@ public class Name implements Comparable<Name> {
     /*
      * The first character of the trackascholar must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
+     * This is the format that is checked for by scanning the characters, written as a regular expression.
      */
-    private static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     private final String fullName;
+    private final String foldedName;
+    private final List<String> foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -26,23 +34,64 @@ public class Name implements Comparable<Name> {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
+        foldedName = StringUtil.foldCase(name);
+        foldedWords = StringUtil.toFoldedWords(name);
+    }
+
+    /**
+     * Returns a {@code Name} for {@code name} without validating it.
+     * Must only be used for names that are known to be valid, such as those in a data file that was written by
+     * TrackAScholar itself and has not been modified since.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, true);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericText(test, " ");
     }
 
     /**
      * Returns true if the given name is equal to this name, ignoring case considerations.
      */
     public boolean equalsIgnoreCase(Name other) {
-        return fullName.equalsIgnoreCase(other.fullName);
+        return foldedName.equals(other.foldedName);
+    }
+
+    /**
+     * Returns the case-folded form of this name.
+     * Two names have the same identity key if and only if they are equal ignoring case.
+     */
+    public String getIdentityKey() {
+        return foldedName;
+    }
+
+    /**
+     * Returns true if this name contains the already case-folded {@code foldedWord} as a full word.
+     *
+     * @see StringUtil#foldCase(String)
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsFoldedWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns the case-folded words of this name.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
     }
 
     /**
@@ -71,7 +120,6 @@ public class Name implements Comparable<Name> {
 
     @Override
     public int compareTo(Name other) {
-
-        return this.fullName.compareToIgnoreCase(other.fullName);
+        return this.foldedName.compareTo(other.foldedName);
     }
 }
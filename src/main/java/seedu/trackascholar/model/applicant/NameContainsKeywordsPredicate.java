@@ -1,24 +1,43 @@
 package seedu.trackascholar.model.applicant;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.trackascholar.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Applicant}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Applicant> {
+public class NameContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
+    private final List<String> foldedKeywords;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} that matches any of the single-word {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.foldKeywords(keywords);
+    }
+
+    @Override
+    public ApplicantSearchIndex.Field getField() {
+        return ApplicantSearchIndex.Field.NAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Applicant applicant) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(applicant.getFullName(), keyword));
+        Name name = applicant.getName();
+        for (int i = 0; i < foldedKeywords.size(); i++) {
+            if (name.containsFoldedWord(foldedKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
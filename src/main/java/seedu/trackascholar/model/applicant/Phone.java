@@ -3,6 +3,8 @@ package seedu.trackascholar.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
+import seedu.trackascholar.commons.util.ValidationUtil;
+
 /**
  * Represents an Applicant's phone number in TrackAScholar.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,7 +14,9 @@ public class Phone {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be 8 digits long";
-    private static final String VALIDATION_REGEX = "\\d{8}";
+    // The format that isValidPhone(String) checks for, as a regular expression
+    static final String VALIDATION_REGEX = "\\d{8}";
+    public static final int NUMBER_OF_DIGITS = 8;
     private final String value;
 
     /**
@@ -21,16 +25,60 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} for {@code phone} without validating it.
+     * Must only be used for phone numbers that are known to be valid.
+     *
+     * @see Name#ofTrusted(String)
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, true);
+    }
+
+    /**
+     * Constructs a {@code Phone} from the value returned by {@link #toDigits()} of a valid phone number.
+     */
+    Phone(int digits) {
+        value = toPhoneNumber(digits);
+    }
+
+    /**
+     * Returns the phone number whose {@link #toDigits()} is {@code digits}, without creating a {@code Phone}.
+     */
+    public static String toPhoneNumber(int digits) {
+        assert digits >= 0;
+        char[] characters = new char[NUMBER_OF_DIGITS];
+        for (int i = NUMBER_OF_DIGITS - 1; i >= 0; i--) {
+            characters[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        assert digits == 0;
+        return new String(characters);
+    }
+
+    /**
+     * Returns the phone number as an int, from which {@link #Phone(int)} recreates an equal phone number.
+     */
+    int toDigits() {
+        return Integer.parseInt(value);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, NUMBER_OF_DIGITS);
     }
 
     /**
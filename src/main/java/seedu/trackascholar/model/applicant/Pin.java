@@ -33,4 +33,9 @@ public class Pin {
                 && hasPinned == (((Pin) other).hasPinned)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(hasPinned);
+    }
+
 }
@@ -0,0 +1,138 @@
+package seedu.trackascholar.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Represents the plan chosen to evaluate a search over the applicants in TrackAScholar.
+ * The first step produces the candidate applicants, either from the search index or by scanning every applicant,
+ * and every following step filters the candidates of the previous step.
+ * Once executed, every step also records the actual number of applicants it produced and the time it took.
+ */
+public class QueryPlan {
+
+    public static final String MESSAGE_PLAN_HEADER = "Query plan:";
+    public static final String MESSAGE_STEP = "%1$d. %2$s %3$s (estimated rows: %4$d, actual rows: %5$s, time: %6$s)";
+    public static final String MESSAGE_PLANNING_TIME = "Planning time: %1$s";
+    public static final String MESSAGE_NOT_EXECUTED = "-";
+
+    private final List<Step> steps;
+    private final Predicate<Applicant> predicate;
+    private final long planningNanos;
+
+    /**
+     * Constructs a {@code QueryPlan} with the given ordered non-empty {@code steps}, and the {@code predicate}
+     * that evaluates all the steps on a single applicant.
+     */
+    QueryPlan(List<Step> steps, Predicate<Applicant> predicate, long planningNanos) {
+        requireNonNull(steps);
+        requireNonNull(predicate);
+        assert !steps.isEmpty();
+        this.steps = steps;
+        this.predicate = predicate;
+        this.planningNanos = planningNanos;
+    }
+
+    /**
+     * Returns a predicate that evaluates the steps of this plan, in order, on a single applicant.
+     */
+    public Predicate<Applicant> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns an unmodifiable view of the steps of this plan, in execution order.
+     */
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Returns a human readable description of this plan and, if it has been executed, its actual row counts
+     * and timings.
+     */
+    public String toExplanation() {
+        StringBuilder builder = new StringBuilder(MESSAGE_PLAN_HEADER);
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            builder.append("\n").append(String.format(MESSAGE_STEP, i + 1, step.getOperation().getDescription(),
+                    step.getClause(), step.getEstimatedRows(),
+                    step.isExecuted() ? String.valueOf(step.getActualRows()) : MESSAGE_NOT_EXECUTED,
+                    step.isExecuted() ? formatNanos(step.getElapsedNanos()) : MESSAGE_NOT_EXECUTED));
+        }
+        builder.append("\n").append(String.format(MESSAGE_PLANNING_TIME, formatNanos(planningNanos)));
+        return builder.toString();
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * The ways in which a step of a plan can be carried out.
+     */
+    public enum Operation {
+        INDEX_LOOKUP("Index lookup"),
+        FULL_SCAN("Full scan"),
+        FILTER("Filter");
+
+        private final String description;
+
+        Operation(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * Represents a single step of a {@code QueryPlan}.
+     */
+    public static class Step {
+        private final Operation operation;
+        private final String clause;
+        private final long estimatedRows;
+        private long actualRows = -1;
+        private long elapsedNanos = -1;
+
+        Step(Operation operation, String clause, long estimatedRows) {
+            this.operation = operation;
+            this.clause = clause;
+            this.estimatedRows = estimatedRows;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public String getClause() {
+            return clause;
+        }
+
+        public long getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        public boolean isExecuted() {
+            return actualRows >= 0;
+        }
+
+        public long getActualRows() {
+            return actualRows;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        void recordExecution(long actualRows, long elapsedNanos) {
+            this.actualRows = actualRows;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -3,6 +3,12 @@ package seedu.trackascholar.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.trackascholar.commons.util.InternPool;
+import seedu.trackascholar.commons.util.StringUtil;
+import seedu.trackascholar.commons.util.ValidationUtil;
+
 /**
  * Represents an Applicant's Scholarship name in TrackAScholar.
  * Guarantees: immutable; is valid as declared in {@link #isValidScholarship(String)}
@@ -15,10 +21,15 @@ public class Scholarship implements Comparable<Scholarship> {
     /*
      * The first character of the trackascholar must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
+     * This is the format that is checked for by scanning the characters, written as a regular expression.
      */
-    private static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} &-]*";
+    static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} &-]*";
+
+    private static final InternPool<Scholarship> INTERN_POOL = new InternPool<>(Scholarship::new);
 
     private final String scholarship;
+    private final String foldedScholarship;
+    private final List<String> foldedWords;
 
     /**
      * Constructs an {@code Scholarship}.
@@ -29,13 +40,44 @@ public class Scholarship implements Comparable<Scholarship> {
         requireNonNull(scholarship);
         checkArgument(isValidScholarship(scholarship), MESSAGE_CONSTRAINTS);
         this.scholarship = scholarship;
+        this.foldedScholarship = StringUtil.foldCase(scholarship);
+        this.foldedWords = StringUtil.toFoldedWords(scholarship);
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns the shared {@code Scholarship} with the given name, creating it if it does not exist yet.
+     * Scholarships created this way are the same instance whenever they are equal.
+     *
+     * @param scholarship A valid scholarship.
+     */
+    public static Scholarship of(String scholarship) {
+        requireNonNull(scholarship);
+        checkArgument(isValidScholarship(scholarship), MESSAGE_CONSTRAINTS);
+        return INTERN_POOL.intern(scholarship);
+    }
+
+    /**
+     * Similar to {@link #of(String)}, but only validates {@code scholarship} when its shared instance is created.
+     * Must only be used for scholarships that are known to be valid, such as those in a data file that was written
+     * by TrackAScholar itself and has not been modified since.
+     */
+    public static Scholarship ofTrusted(String scholarship) {
+        requireNonNull(scholarship);
+        return INTERN_POOL.intern(scholarship);
+    }
+
+    /**
+     * Returns the pool that holds the shared instances returned by {@link #of(String)}.
+     */
+    public static InternPool<Scholarship> getInternPool() {
+        return INTERN_POOL;
+    }
+
+    /**
+     * Returns true if a given string is a valid scholarship.
      */
     public static boolean isValidScholarship(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericText(test, " &-");
     }
 
     /**
@@ -45,6 +87,22 @@ public class Scholarship implements Comparable<Scholarship> {
         return scholarship;
     }
 
+    /**
+     * Returns true if this scholarship name contains the already case-folded {@code foldedWord} as a full word.
+     *
+     * @see StringUtil#foldCase(String)
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsFoldedWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns the case-folded words of this scholarship name.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return scholarship;
@@ -64,6 +122,6 @@ public class Scholarship implements Comparable<Scholarship> {
 
     @Override
     public int compareTo(Scholarship other) {
-        return this.scholarship.compareToIgnoreCase(other.scholarship);
+        return this.foldedScholarship.compareTo(other.foldedScholarship);
     }
 }
@@ -1,24 +1,43 @@
 package seedu.trackascholar.model.applicant;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.trackascholar.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Applicant}'s {@code Scholarship} matches any of the keywords given.
  */
-public class ScholarshipContainsKeywordsPredicate implements Predicate<Applicant> {
+public class ScholarshipContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
+    private final List<String> foldedKeywords;
 
+    /**
+     * Constructs a {@code ScholarshipContainsKeywordsPredicate} that matches any of the single-word {@code keywords}.
+     */
     public ScholarshipContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.foldKeywords(keywords);
+    }
+
+    @Override
+    public ApplicantSearchIndex.Field getField() {
+        return ApplicantSearchIndex.Field.SCHOLARSHIP;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Applicant applicant) {
-        return keywords.stream().anyMatch(
-                keyword -> StringUtil.containsWordIgnoreCase(applicant.getScholarshipName(), keyword));
+        Scholarship scholarship = applicant.getScholarship();
+        for (int i = 0; i < foldedKeywords.size(); i++) {
+            if (scholarship.containsFoldedWord(foldedKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -3,10 +3,18 @@ package seedu.trackascholar.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +28,16 @@ import seedu.trackascholar.model.applicant.exceptions.DuplicateApplicantExceptio
  * being added or updated is unique in terms of identity in the UniqueApplicantList. However, the removal of an
  * applicant uses Applicant#equals(Object) to ensure that the applicant with exactly the same fields will be removed.
  *
+ * An index from each applicant's case-folded name to the applicant, an index from each applicant instance to
+ * its position in the list, a bucket of applicants for every application status and an inverted index of the words
+ * in searchable fields are kept in sync with the list, so that identity checks, updates, removals, status counts
+ * and keyword searches do not need to scan the whole list.
+ * The name, status and search indexes are updated before the list itself, so that listeners of the list (such as
+ * filtered views using an indexed predicate) observe up-to-date indexes.
+ *
+ * Changes can be grouped into a batch, which publishes them to the observable list as a single change when it is
+ * committed, or discards them when it is rolled back.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Applicant#isSameApplicant(Applicant)
@@ -29,13 +47,28 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     private final ObservableList<Applicant> internalList = FXCollections.observableArrayList();
     private final ObservableList<Applicant> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Applicant> nameIndex = new HashMap<>();
+    private final Map<Applicant, Integer> positionIndex = new IdentityHashMap<>();
+    private final Map<String, Set<Applicant>> statusIndex = new HashMap<>();
+    private final ApplicantSearchIndex searchIndex = new ApplicantSearchIndex();
+    private final ApplicantQueryPlanner queryPlanner = new ApplicantQueryPlanner(searchIndex, internalUnmodifiableList);
+
+    // The private copy of the list that changes are made to during a batch, or null outside of batches.
+    private List<Applicant> batchList;
+    private int batchDepth;
+
+    {
+        statusIndex.put(ApplicationStatus.PENDING, newIdentitySet());
+        statusIndex.put(ApplicationStatus.ACCEPTED, newIdentitySet());
+        statusIndex.put(ApplicationStatus.REJECTED, newIdentitySet());
+    }
 
     /**
      * Returns true if the list contains an equivalent applicant as the given argument.
      */
     public boolean contains(Applicant toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameApplicant);
+        return nameIndex.containsKey(toCheck.getName().getIdentityKey());
     }
 
     /**
@@ -48,8 +81,7 @@ public class UniqueApplicantList implements Iterable<Applicant> {
         requireNonNull(toCheck);
         assert this.contains(toCheck);
 
-        Optional<Applicant> similarApplicant = internalList.stream().filter(toCheck::isSameApplicant).findFirst();
-        return similarApplicant.get();
+        return nameIndex.get(toCheck.getName().getIdentityKey());
     }
 
     /**
@@ -61,7 +93,9 @@ public class UniqueApplicantList implements Iterable<Applicant> {
         if (contains(toAdd)) {
             throw new DuplicateApplicantException();
         }
-        internalList.add(toAdd);
+        index(toAdd);
+        positionIndex.put(toAdd, applicants().size());
+        applicants().add(toAdd);
     }
 
     /**
@@ -72,7 +106,7 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     public void setApplicant(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ApplicantNotFoundException();
         }
@@ -81,7 +115,12 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             throw new DuplicateApplicantException();
         }
 
-        internalList.set(index, editedApplicant);
+        Applicant replacedApplicant = applicants().get(index);
+        unindex(replacedApplicant);
+        index(editedApplicant);
+        positionIndex.remove(replacedApplicant);
+        positionIndex.put(editedApplicant, index);
+        applicants().set(index, editedApplicant);
     }
 
     /**
@@ -90,47 +129,295 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public void remove(Applicant toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ApplicantNotFoundException();
         }
+
+        Applicant removedApplicant = applicants().get(index);
+        unindex(removedApplicant);
+        positionIndex.remove(removedApplicant);
+        applicants().remove(index);
+        reindexPositionsFrom(index);
     }
 
     /**
      * Removes all applicants with matching application status from the list.
+     * Membership is looked up in the status bucket, and nothing is scanned if no applicant has the status.
+     *
+     * @return the number of applicants removed.
      */
-    public void removeByStatus(ApplicationStatus statusToRemove) {
+    public int removeByStatus(ApplicationStatus statusToRemove) {
         requireNonNull(statusToRemove);
-        for (int index = internalList.size() - 1; index >= 0; index--) {
-            if (internalList.get(index).isMatchingApplicationStatus(statusToRemove)) {
-                internalList.remove(index);
+        Set<Applicant> bucket = statusIndex.get(statusToRemove.getStatusOfApplication());
+        if (bucket.isEmpty()) {
+            return 0;
+        }
+        Set<Applicant> applicantsToRemove = newIdentitySet();
+        applicantsToRemove.addAll(bucket);
+        return removeIf(applicantsToRemove::contains);
+    }
+
+    /**
+     * Returns the number of applicants in the list with the given application status.
+     */
+    public int countByStatus(ApplicationStatus status) {
+        requireNonNull(status);
+        return statusIndex.get(status.getStatusOfApplication()).size();
+    }
+
+    /**
+     * Removes all applicants that satisfy {@code predicate} from the list.
+     * The remaining applicants are compacted in a single pass and published as one change to the list, so that
+     * listeners of the list are notified once regardless of the number of applicants removed.
+     * The removed applicants are only unindexed once {@code predicate} has been tested on every applicant, so that
+     * the list and its indexes are left unchanged if {@code predicate} throws.
+     *
+     * @return the number of applicants removed.
+     */
+    public int removeIf(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        List<Applicant> remainingApplicants = new ArrayList<>(applicants().size());
+        List<Applicant> removedApplicants = new ArrayList<>();
+        for (Applicant applicant : applicants()) {
+            if (predicate.test(applicant)) {
+                removedApplicants.add(applicant);
+            } else {
+                remainingApplicants.add(applicant);
+            }
+        }
+        if (removedApplicants.isEmpty()) {
+            return 0;
+        }
+
+        for (Applicant removedApplicant : removedApplicants) {
+            unindex(removedApplicant);
+            positionIndex.remove(removedApplicant);
+        }
+        setAllApplicants(remainingApplicants);
+        reindexPositionsFrom(0);
+        return removedApplicants.size();
+    }
+
+    /**
+     * Merges {@code importedApplicants} into the list.
+     * An imported applicant with the same identity as an applicant already in the list, or as an earlier imported
+     * applicant, replaces that applicant in place if {@code isReplacing} is true, and is skipped otherwise.
+     * Other imported applicants are appended in order. Identities are matched with the name index, and all
+     * replacements and additions are published as one change to the list.
+     *
+     * @return the number of applicants added, replaced and skipped.
+     */
+    public MergeSummary merge(List<Applicant> importedApplicants, boolean isReplacing) {
+        requireAllNonNull(importedApplicants);
+        Map<Integer, Applicant> replacements = new HashMap<>();
+        Map<String, Applicant> additions = new LinkedHashMap<>();
+        int replacedCount = 0;
+        int skippedCount = 0;
+        for (Applicant importedApplicant : importedApplicants) {
+            String key = importedApplicant.getName().getIdentityKey();
+            Applicant pendingApplicant = additions.get(key);
+            Applicant existingApplicant = nameIndex.get(key);
+            if (pendingApplicant == null && existingApplicant == null) {
+                additions.put(key, importedApplicant);
+                continue;
+            }
+
+            int position = pendingApplicant == null ? positionIndex.get(existingApplicant) : -1;
+            Applicant currentApplicant = pendingApplicant != null ? pendingApplicant
+                    : replacements.getOrDefault(position, existingApplicant);
+            if (!isReplacing || currentApplicant.equals(importedApplicant)) {
+                skippedCount++;
+            } else if (pendingApplicant != null) {
+                additions.put(key, importedApplicant);
+                replacedCount++;
+            } else {
+                replacements.put(position, importedApplicant);
+                replacedCount++;
             }
         }
+
+        if (replacements.isEmpty() && additions.isEmpty()) {
+            return new MergeSummary(0, 0, skippedCount);
+        }
+
+        replacements.forEach((position, replacement) -> {
+            unindex(applicants().get(position));
+            positionIndex.remove(applicants().get(position));
+            index(replacement);
+            positionIndex.put(replacement, position);
+        });
+        int additionPosition = applicants().size();
+        for (Applicant addition : additions.values()) {
+            index(addition);
+            positionIndex.put(addition, additionPosition++);
+        }
+
+        if (replacements.isEmpty()) {
+            applicants().addAll(additions.values());
+        } else {
+            List<Applicant> mergedApplicants = new ArrayList<>(applicants().size() + additions.size());
+            for (int position = 0; position < applicants().size(); position++) {
+                mergedApplicants.add(replacements.getOrDefault(position, applicants().get(position)));
+            }
+            mergedApplicants.addAll(additions.values());
+            setAllApplicants(mergedApplicants);
+        }
+        return new MergeSummary(additions.size(), replacedCount, skippedCount);
     }
 
     /**
      * Sorts the list with the given {@code comparator}.
+     * The name index is unaffected as sorting does not change the set of applicants.
      */
     public void sort(Comparator<Applicant> comparator) {
         requireNonNull(comparator);
-        internalList.sort(comparator);
+        applicants().sort(comparator);
+        reindexPositionsFrom(0);
     }
 
     public void setApplicants(UniqueApplicantList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        statusIndex.forEach((status, bucket) -> {
+            bucket.clear();
+            bucket.addAll(replacement.statusIndex.get(status));
+        });
+        searchIndex.clear();
+        replacement.internalList.forEach(searchIndex::add);
+        setAllApplicants(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code applicants}.
      * {@code applicants} must not contain duplicate applicants.
+     * Uniqueness is validated in a single pass, and every group of duplicates is reported in the thrown
+     * {@code DuplicateApplicantException}.
      */
     public void setApplicants(List<Applicant> applicants) {
         requireAllNonNull(applicants);
-        if (!applicantsAreUnique(applicants)) {
-            throw new DuplicateApplicantException();
+        Map<String, Applicant> replacementIndex = new HashMap<>();
+        Set<String> duplicateKeys = new HashSet<>();
+        List<Name> duplicateNames = new ArrayList<>();
+        for (Applicant applicant : applicants) {
+            String key = applicant.getName().getIdentityKey();
+            Applicant existingApplicant = replacementIndex.putIfAbsent(key, applicant);
+            if (existingApplicant != null && duplicateKeys.add(key)) {
+                duplicateNames.add(existingApplicant.getName());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateApplicantException(duplicateNames);
+        }
+
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        statusIndex.values().forEach(Set::clear);
+        applicants.forEach(applicant -> statusBucketOf(applicant).add(applicant));
+        searchIndex.clear();
+        applicants.forEach(searchIndex::add);
+        positionIndex.clear();
+        setAllApplicants(applicants);
+        reindexPositionsFrom(0);
+    }
+
+    /**
+     * Starts a batch of changes.
+     * Until the batch is committed, changes are made to a private copy of the list, and the indexes are updated as
+     * usual, but the observable list keeps showing the applicants as they were before the batch.
+     * A batch started within another batch becomes part of the outer batch.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Ends the current batch. Ending the outermost batch publishes all of its changes to the observable list as a
+     * single change: an addition if applicants were only appended, or a replacement of the whole list otherwise.
+     * Does nothing if there is no batch, such as after a rollback.
+     */
+    public void commitBatch() {
+        if (batchDepth == 0 || --batchDepth > 0) {
+            return;
+        }
+        List<Applicant> committedApplicants = batchList;
+        batchList = null;
+
+        int publishedSize = internalList.size();
+        if (isAppendedTo(internalList, committedApplicants)) {
+            if (committedApplicants.size() > publishedSize) {
+                internalList.addAll(committedApplicants.subList(publishedSize, committedApplicants.size()));
+            }
+        } else {
+            internalList.setAll(committedApplicants);
+        }
+    }
+
+    /**
+     * Discards all changes made since the outermost batch began, and ends all batches.
+     * Does nothing if there is no batch.
+     */
+    public void rollbackBatch() {
+        if (batchDepth == 0) {
+            return;
+        }
+        batchDepth = 0;
+        batchList = null;
+
+        nameIndex.clear();
+        positionIndex.clear();
+        statusIndex.values().forEach(Set::clear);
+        searchIndex.clear();
+        internalList.forEach(this::index);
+        reindexPositionsFrom(0);
+    }
+
+    /**
+     * Returns true if there is a batch that has not been committed or rolled back.
+     */
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Returns true if {@code applicants} starts with the same applicant instances as {@code prefix}.
+     */
+    private static boolean isAppendedTo(List<Applicant> prefix, List<Applicant> applicants) {
+        if (applicants.size() < prefix.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            if (prefix.get(i) != applicants.get(i)) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    /**
+     * Returns the plan to evaluate {@code predicate} over this list, answering keyword clauses from the search index.
+     * Keyword clauses are {@code FieldContainsKeywordsPredicate}s, either on their own or within an
+     * {@code AllMatchPredicate}. The predicate of the returned plan must only be tested on applicants in this list.
+     */
+    public QueryPlan planQuery(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        return queryPlanner.plan(predicate);
+    }
 
-        internalList.setAll(applicants);
+    /**
+     * Returns the plan to evaluate {@code predicate} over this list, after executing it to record the actual
+     * number of applicants produced by, and the time taken by, each step.
+     *
+     * @see #planQuery(Predicate)
+     */
+    public QueryPlan explainQuery(Predicate<Applicant> predicate) {
+        requireNonNull(predicate);
+        return queryPlanner.explain(predicate);
     }
 
     /**
@@ -140,9 +427,74 @@ public class UniqueApplicantList implements Iterable<Applicant> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the list that changes are made to, which is the private copy of the list during a batch.
+     */
+    private List<Applicant> applicants() {
+        return batchList != null ? batchList : internalList;
+    }
+
+    /**
+     * Replaces the applicants in the list that changes are made to with {@code applicants}.
+     */
+    private void setAllApplicants(List<Applicant> applicants) {
+        if (batchList != null) {
+            batchList = new ArrayList<>(applicants);
+        } else {
+            internalList.setAll(applicants);
+        }
+    }
+
+    /**
+     * Returns the position of the applicant in the list that is equal to {@code applicant}, or -1 if there is none.
+     * As applicants are unique by name, the only candidate is the applicant with the same name.
+     */
+    private int indexOf(Applicant applicant) {
+        Applicant candidate = nameIndex.get(applicant.getName().getIdentityKey());
+        if (candidate == null || !candidate.equals(applicant)) {
+            return -1;
+        }
+        return positionIndex.get(candidate);
+    }
+
+    /**
+     * Adds {@code applicant} to the name, status and search indexes.
+     */
+    private void index(Applicant applicant) {
+        nameIndex.put(applicant.getName().getIdentityKey(), applicant);
+        statusBucketOf(applicant).add(applicant);
+        searchIndex.add(applicant);
+    }
+
+    /**
+     * Removes {@code applicant} from the name, status and search indexes.
+     */
+    private void unindex(Applicant applicant) {
+        nameIndex.remove(applicant.getName().getIdentityKey());
+        statusBucketOf(applicant).remove(applicant);
+        searchIndex.remove(applicant);
+    }
+
+    private Set<Applicant> statusBucketOf(Applicant applicant) {
+        return statusIndex.get(applicant.getStatusOfApplication());
+    }
+
+    private static Set<Applicant> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Updates the recorded positions of all applicants from {@code startIndex} to the end of the list.
+     */
+    private void reindexPositionsFrom(int startIndex) {
+        for (int index = startIndex; index < applicants().size(); index++) {
+            positionIndex.put(applicants().get(index), index);
+        }
+    }
+
     @Override
     public Iterator<Applicant> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -156,20 +508,4 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code applicants} contains only unique applicants.
-     */
-    private boolean applicantsAreUnique(List<Applicant> applicants) {
-        for (int i = 0; i < applicants.size() - 1; i++) {
-            for (int j = i + 1; j < applicants.size(); j++) {
-                if (applicants.get(i).isSameApplicant(applicants.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-
 }
@@ -1,11 +1,43 @@
 package seedu.trackascholar.model.applicant.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.trackascholar.model.applicant.Name;
+
 /**
  * Signals that the operation will result in duplicate Applicants
  * (Applicants are considered duplicates if they have the same identity).
  */
 public class DuplicateApplicantException extends RuntimeException {
+
+    private final List<Name> duplicateNames;
+
     public DuplicateApplicantException() {
         super("Operation would result in duplicate applicants");
+        duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateApplicantException} listing one name for every group of duplicate applicants.
+     */
+    public DuplicateApplicantException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate applicants: " + joinNames(duplicateNames));
+        this.duplicateNames = Collections.unmodifiableList(duplicateNames);
+    }
+
+    /**
+     * Returns one name for every group of duplicate applicants, or an empty list if unknown.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
+    }
+
+    /**
+     * Returns the given names as a comma separated string.
+     */
+    public static String joinNames(List<Name> names) {
+        return names.stream().map(Name::getFullName).collect(Collectors.joining(", "));
     }
 }
@@ -3,6 +3,12 @@ package seedu.trackascholar.model.major;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackascholar.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.trackascholar.commons.util.InternPool;
+import seedu.trackascholar.commons.util.StringUtil;
+import seedu.trackascholar.commons.util.ValidationUtil;
+
 /**
  * Represents a Major in TrackAScholar.
  * Guarantees: immutable; name is valid as declared in {@link #isValidMajor(String)}
@@ -14,9 +20,14 @@ public class Major {
             + "1. Major should not be empty\n"
             + "2. An applicant can only take up at most 2 distinct Majors";
     public static final int MAXIMUM_NUMBER_OF_MAJORS = 2;
-    private static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    // The format that isValidMajor(String) checks for, as a regular expression
+    static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
+    private static final InternPool<Major> INTERN_POOL = new InternPool<>(Major::new);
 
     private final String major;
+    private final String foldedMajor;
+    private final List<String> foldedWords;
 
     /**
      * Constructs a {@code Major}.
@@ -27,13 +38,44 @@ public class Major {
         requireNonNull(major);
         checkArgument(isValidMajor(major), MESSAGE_CONSTRAINTS);
         this.major = major;
+        this.foldedMajor = StringUtil.foldCase(major);
+        this.foldedWords = StringUtil.toFoldedWords(major);
+    }
+
+    /**
+     * Returns the shared {@code Major} with the given name, creating it if it does not exist yet.
+     * Majors created this way are the same instance whenever they are equal.
+     *
+     * @param major A valid major name.
+     */
+    public static Major of(String major) {
+        requireNonNull(major);
+        checkArgument(isValidMajor(major), MESSAGE_CONSTRAINTS);
+        return INTERN_POOL.intern(major);
+    }
+
+    /**
+     * Similar to {@link #of(String)}, but only validates {@code major} when its shared instance is created.
+     * Must only be used for majors that are known to be valid, such as those in a data file that was written by
+     * TrackAScholar itself and has not been modified since.
+     */
+    public static Major ofTrusted(String major) {
+        requireNonNull(major);
+        return INTERN_POOL.intern(major);
+    }
+
+    /**
+     * Returns the pool that holds the shared instances returned by {@link #of(String)}.
+     */
+    public static InternPool<Major> getInternPool() {
+        return INTERN_POOL;
     }
 
     /**
      * Returns true if a given string is a valid major name.
      */
     public static boolean isValidMajor(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericText(test, " ");
     }
 
     /**
@@ -43,13 +85,29 @@ public class Major {
         return major;
     }
 
+    /**
+     * Returns true if this major name contains the already case-folded {@code foldedWord} as a full word.
+     *
+     * @see StringUtil#foldCase(String)
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsFoldedWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns the case-folded words of this major name.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
     /**
      * Returns true if both majors have the same name.
      * This defines a weaker notion of equality between two majors.
      */
     public boolean isSameMajor(Major otherMajor) {
         return otherMajor != null
-                && otherMajor.getMajorName().equalsIgnoreCase(this.getMajorName());
+                && otherMajor.foldedMajor.equals(this.foldedMajor);
     }
 
     @Override
@@ -1,37 +1,47 @@
 package seedu.trackascholar.model.major;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import seedu.trackascholar.commons.util.StringUtil;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.ApplicantSearchIndex;
+import seedu.trackascholar.model.applicant.FieldContainsKeywordsPredicate;
 
 /**
  * Tests if any of the {@code Applicant}'s {@code Major} matches any of the keywords given.
  */
-public class MajorContainsKeywordsPredicate implements Predicate<Applicant> {
+public class MajorContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
+    private final List<String> foldedKeywords;
 
+    /**
+     * Constructs a {@code MajorContainsKeywordsPredicate} that matches any of the single-word {@code keywords}.
+     */
     public MajorContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.foldKeywords(keywords);
     }
 
     @Override
-    public boolean test(Applicant applicant) {
-        Set<String> majors = applicant.getMajors()
-                .stream()
-                .map(major -> major.getMajorName())
-                .collect(Collectors.toSet());
+    public ApplicantSearchIndex.Field getField() {
+        return ApplicantSearchIndex.Field.MAJOR;
+    }
 
-        List<String> listOfMajors = new ArrayList<>();
-        majors.forEach(major -> listOfMajors.add(major));
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
 
-        return listOfMajors.stream()
-                .anyMatch(majorNames -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(majorNames, keyword)));
+    @Override
+    public boolean test(Applicant applicant) {
+        for (Major major : applicant.getMajors()) {
+            for (int i = 0; i < foldedKeywords.size(); i++) {
+                if (major.containsFoldedWord(foldedKeywords.get(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,110 @@
+package seedu.trackascholar.model.major;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of at most {@link Major#MAXIMUM_NUMBER_OF_MAJORS} majors, held in two fields instead of a hash table.
+ * Iterates over the majors in the order they were given, and throws {@code UnsupportedOperationException}
+ * if modification is attempted.
+ */
+public final class MajorSet extends AbstractSet<Major> {
+
+    private static final MajorSet EMPTY = new MajorSet(null, null);
+
+    private final Major firstMajor;
+    private final Major secondMajor;
+
+    private MajorSet(Major firstMajor, Major secondMajor) {
+        this.firstMajor = firstMajor;
+        this.secondMajor = secondMajor;
+    }
+
+    /**
+     * Returns an immutable set with the distinct majors in {@code majors}.
+     * The set is a {@code MajorSet} if there are at most two distinct majors, or an unmodifiable hash set otherwise.
+     */
+    public static Set<Major> copyOf(Collection<Major> majors) {
+        requireNonNull(majors);
+        if (majors instanceof MajorSet) {
+            return (MajorSet) majors;
+        }
+
+        Major firstMajor = null;
+        Major secondMajor = null;
+        for (Major major : majors) {
+            requireNonNull(major);
+            if (firstMajor == null || firstMajor.equals(major)) {
+                firstMajor = major;
+            } else if (secondMajor == null || secondMajor.equals(major)) {
+                secondMajor = major;
+            } else {
+                return Collections.unmodifiableSet(new HashSet<>(majors));
+            }
+        }
+        return firstMajor == null ? EMPTY : new MajorSet(firstMajor, secondMajor);
+    }
+
+    @Override
+    public int size() {
+        return firstMajor == null ? 0 : secondMajor == null ? 1 : 2;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && (o.equals(firstMajor) || o.equals(secondMajor));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Major> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Major> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size();
+            }
+
+            @Override
+            public Major next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return nextIndex++ == 0 ? firstMajor : secondMajor;
+            }
+        };
+    }
+}
@@ -22,22 +22,22 @@ public class SampleDataUtil {
     public static Applicant[] getSampleApplicants() {
         return new Applicant[] {
             new Applicant(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Scholarship("NUS Global Merit Scholarship"), new ApplicationStatus("pending"),
+                Scholarship.of("NUS Global Merit Scholarship"), ApplicationStatus.of("pending"),
                 getMajorSet("Medicine"), new Pin(true)),
             new Applicant(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Scholarship("NUS Merit Scholarship"),
-                new ApplicationStatus("pending"), getMajorSet("Business", "Accountancy")),
+                Scholarship.of("NUS Merit Scholarship"),
+                ApplicationStatus.of("pending"), getMajorSet("Business", "Accountancy")),
             new Applicant(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new Scholarship("NUS Sports Scholarship"),
-                new ApplicationStatus("accepted"), getMajorSet()),
+                Scholarship.of("NUS Sports Scholarship"),
+                ApplicationStatus.of("accepted"), getMajorSet()),
             new Applicant(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Scholarship("NUS Performing & Visual Arts Scholarship"),
-                new ApplicationStatus("rejected"), getMajorSet("Psychology"), new Pin(true)),
+                Scholarship.of("NUS Performing & Visual Arts Scholarship"),
+                ApplicationStatus.of("rejected"), getMajorSet("Psychology"), new Pin(true)),
             new Applicant(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Scholarship("NUS Merit Scholarship"), new ApplicationStatus("pending"),
+                Scholarship.of("NUS Merit Scholarship"), ApplicationStatus.of("pending"),
                 getMajorSet("Software Engineering")),
             new Applicant(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Scholarship("NUS Performing & Visual Arts Scholarship"), new ApplicationStatus("rejected"),
+                Scholarship.of("NUS Performing & Visual Arts Scholarship"), ApplicationStatus.of("rejected"),
                 getMajorSet("Psychology"))
         };
     }
@@ -55,7 +55,7 @@ public class SampleDataUtil {
      */
     public static Set<Major> getMajorSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Major::new)
+                .map(Major::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,145 @@
+package seedu.trackascholar.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.trackascholar.commons.core.LogsCenter;
+import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+
+/**
+ * Writes TrackAScholar data to a {@code TrackAScholarStorage} on a single background thread.
+ * Data submitted while an earlier write is in progress waits for it, and only the latest data submitted in the
+ * meantime is written, so a burst of changes results in at most two writes.
+ */
+class BackgroundTrackAScholarSaver {
+
+    private static final String THREAD_NAME = "TrackAScholar-saver";
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTrackAScholarSaver.class);
+
+    private final TrackAScholarStorage trackAScholarStorage;
+    private final SaveMetrics saveMetrics;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this saver.
+    private ReadOnlyTrackAScholar pendingData;
+    private long pendingRequestNanos;
+    private boolean isWriting;
+    private IOException failure;
+
+    BackgroundTrackAScholarSaver(TrackAScholarStorage trackAScholarStorage, SaveMetrics saveMetrics) {
+        requireNonNull(trackAScholarStorage);
+        requireNonNull(saveMetrics);
+        this.trackAScholarStorage = trackAScholarStorage;
+        this.saveMetrics = saveMetrics;
+    }
+
+    /**
+     * Schedules {@code data}, which must not change afterwards, to be written in the background.
+     * Replaces any data that is still waiting to be written.
+     */
+    synchronized void submit(ReadOnlyTrackAScholar data) {
+        requireNonNull(data);
+        boolean isCoalesced = pendingData != null;
+        saveMetrics.recordRequest(isCoalesced);
+        if (!isCoalesced) {
+            pendingRequestNanos = System.nanoTime();
+        }
+        pendingData = data;
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePendingData);
+        }
+    }
+
+    /**
+     * Writes the pending data until there is none left. Runs on the background thread only.
+     */
+    private void writePendingData() {
+        while (true) {
+            ReadOnlyTrackAScholar data;
+            long requestNanos;
+            synchronized (this) {
+                if (pendingData == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                data = pendingData;
+                requestNanos = pendingRequestNanos;
+                pendingData = null;
+            }
+
+            long startNanos = System.nanoTime();
+            IOException writeFailure = null;
+            try {
+                trackAScholarStorage.saveTrackAScholar(data);
+            } catch (IOException ioe) {
+                writeFailure = ioe;
+            }
+            long endNanos = System.nanoTime();
+            saveMetrics.recordWrite(endNanos - startNanos, endNanos - requestNanos, writeFailure == null);
+
+            synchronized (this) {
+                if (writeFailure != null) {
+                    logger.warning("Failed to save TrackAScholar data in the background: " + writeFailure);
+                    failure = writeFailure;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the failure of the latest background write that failed since the previous call, if any.
+     */
+    synchronized Optional<IOException> pollFailure() {
+        Optional<IOException> polledFailure = Optional.ofNullable(failure);
+        failure = null;
+        return polledFailure;
+    }
+
+    /**
+     * Waits until all submitted data has been written.
+     *
+     * @throws IOException if a background write failed since the previous call to {@link #pollFailure()}.
+     */
+    synchronized void flush() throws IOException {
+        boolean isInterrupted = false;
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        Optional<IOException> polledFailure = pollFailure();
+        if (polledFailure.isPresent()) {
+            throw polledFailure.get();
+        }
+    }
+
+    /**
+     * Writes all submitted data and stops the background thread.
+     *
+     * @throws IOException if a background write failed since the previous call to {@link #pollFailure()}.
+     */
+    void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+}
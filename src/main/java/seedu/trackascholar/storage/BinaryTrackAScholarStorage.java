@@ -0,0 +1,469 @@
+package seedu.trackascholar.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.trackascholar.commons.core.LogsCenter;
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.commons.util.FileUtil;
+import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.ApplicationStatus;
+import seedu.trackascholar.model.applicant.Email;
+import seedu.trackascholar.model.applicant.Name;
+import seedu.trackascholar.model.applicant.Phone;
+import seedu.trackascholar.model.applicant.Pin;
+import seedu.trackascholar.model.applicant.Scholarship;
+import seedu.trackascholar.model.applicant.exceptions.DuplicateApplicantException;
+import seedu.trackascholar.model.major.Major;
+
+/**
+ * A class to access TrackAScholar data stored as a binary snapshot file on the hard disk.
+ * <p>
+ * The file starts with a fixed size header of a magic number, the format version, the length of the payload and
+ * the CRC-32 checksum of the payload. The payload is a table of the scholarships, application statuses and majors
+ * used by the applicants, followed by the applicants, each of which refers to these values by their index in
+ * the table. Strings are written as UTF-8 bytes preceded by their length, and lengths, counts and indices are
+ * written as variable-length unsigned integers.
+ */
+public class BinaryTrackAScholarStorage implements TrackAScholarStorage {
+
+    public static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_SNAPSHOT = "File is not a TrackAScholar binary snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %1$d is not supported";
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted";
+    public static final String MESSAGE_INVALID_APPLICANT = "Applicant %1$d is invalid: %2$s";
+
+    static final int MAGIC_NUMBER = 0x54415342; // "TASB"
+    static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final Logger logger = LogsCenter.getLogger(BinaryTrackAScholarStorage.class);
+
+    private final Path filePath;
+
+    public BinaryTrackAScholarStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept next to the json data file at {@code jsonFilePath}, which has
+     * the same name with a {@value #SNAPSHOT_FILE_EXTENSION} extension instead.
+     */
+    public static Path getSnapshotPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTrackAScholarFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTrackAScholar> readTrackAScholar() throws DataConversionException, IOException {
+        return readTrackAScholar(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTrackAScholar()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not a valid binary snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyTrackAScholar> readTrackAScholar(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = FileUtil.readToBuffer(filePath);
+        try {
+            return Optional.of(readSnapshot(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the TrackAScholar in the binary snapshot in {@code buffer}, from its current position.
+     *
+     * @throws IllegalValueException if the snapshot is invalid or any data constraints are violated.
+     */
+    static TrackAScholar readSnapshot(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            ByteBuffer payload = readHeader(buffer);
+            return new SnapshotReader(payload).read();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Checks the header at the position of {@code buffer}, and returns the payload that follows it.
+     */
+    private static ByteBuffer readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        long payloadLength = buffer.getLong();
+        int checksum = buffer.getInt();
+        if (payloadLength != buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        ByteBuffer payload = buffer.slice();
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return payload;
+    }
+
+    @Override
+    public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException {
+        saveTrackAScholar(trackAScholar, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTrackAScholar(ReadOnlyTrackAScholar)}.
+     * The snapshot is written to a temporary file first, which then replaces the file at {@code filePath}, so that
+     * a failed save leaves the previous snapshot intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar, Path filePath) throws IOException {
+        requireNonNull(trackAScholar);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        writeSnapshot(new ArrayList<>(trackAScholar.getApplicantList()), temporaryPath);
+        FileUtil.moveReplacing(temporaryPath, filePath);
+    }
+
+    /**
+     * Writes {@code applicants} as a binary snapshot to the file at {@code path}.
+     * The payload is written after space left for the header, which is filled in once the length and checksum
+     * of the payload are known.
+     */
+    private static void writeSnapshot(List<Applicant> applicants, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            CountingOutputStream countingStream = new CountingOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(countingStream, crc));
+            new SnapshotWriter(out).write(applicants);
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).putLong(countingStream.getCount())
+                    .putInt((int) crc.getValue());
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the payload of a binary snapshot.
+     */
+    private static class SnapshotWriter {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        private SnapshotWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void write(List<Applicant> applicants) throws IOException {
+            for (Applicant applicant : applicants) {
+                addToStringTable(applicant.getScholarshipName());
+                addToStringTable(applicant.getStatusOfApplication());
+                for (Major major : applicant.getMajors()) {
+                    addToStringTable(major.getMajorName());
+                }
+            }
+
+            writeVarInt(strings.size());
+            for (String string : strings) {
+                writeString(string);
+            }
+
+            writeVarInt(applicants.size());
+            for (Applicant applicant : applicants) {
+                writeApplicant(applicant);
+            }
+        }
+
+        private void addToStringTable(String string) {
+            if (!stringIndices.containsKey(string)) {
+                stringIndices.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        private void writeApplicant(Applicant applicant) throws IOException {
+            writeString(applicant.getFullName());
+            writePhone(applicant.getPhoneValue());
+            writeString(applicant.getEmailAddress());
+            writeVarInt(stringIndices.get(applicant.getScholarshipName()));
+            writeVarInt(stringIndices.get(applicant.getStatusOfApplication()));
+            out.writeBoolean(applicant.getHasPinned());
+            writeVarInt(applicant.getMajors().size());
+            for (Major major : applicant.getMajors()) {
+                writeVarInt(stringIndices.get(major.getMajorName()));
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        /**
+         * Writes the phone number with the digits of {@code phoneValue} in the same form as
+         * {@link #writeString(String)}, without creating the string.
+         */
+        private void writePhone(int phoneValue) throws IOException {
+            writeVarInt(Phone.NUMBER_OF_DIGITS);
+            int divisor = 1;
+            for (int i = 1; i < Phone.NUMBER_OF_DIGITS; i++) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                out.writeByte('0' + phoneValue / divisor % 10);
+            }
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            assert value >= 0;
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    /**
+     * Reads the payload of a binary snapshot.
+     * Every value in the string table is validated and converted at most once, however many applicants share it.
+     */
+    private static class SnapshotReader {
+        private final ByteBuffer payload;
+        private String[] strings;
+        private Scholarship[] scholarships;
+        private ApplicationStatus[] applicationStatuses;
+        private Major[] majors;
+        private int applicantCount;
+
+        private SnapshotReader(ByteBuffer payload) {
+            this.payload = payload;
+        }
+
+        private TrackAScholar read() throws IllegalValueException {
+            int stringCount = readCount();
+            strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                strings[i] = readString();
+            }
+            scholarships = new Scholarship[stringCount];
+            applicationStatuses = new ApplicationStatus[stringCount];
+            majors = new Major[stringCount];
+
+            int applicantTotal = readCount();
+            List<Applicant> applicants = new ArrayList<>(applicantTotal);
+            for (int i = 0; i < applicantTotal; i++) {
+                applicantCount++;
+                applicants.add(readApplicant());
+            }
+            if (payload.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            TrackAScholar trackAScholar = new TrackAScholar();
+            try {
+                trackAScholar.setApplicants(applicants);
+            } catch (DuplicateApplicantException e) {
+                String duplicateNames = DuplicateApplicantException.joinNames(e.getDuplicateNames());
+                throw new IllegalValueException(JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_APPLICANT + " "
+                        + String.format(JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_NAMES, duplicateNames));
+            }
+            return trackAScholar;
+        }
+
+        private Applicant readApplicant() throws IllegalValueException {
+            String name = readString();
+            check(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+            String phone = readString();
+            check(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+            String email = readString();
+            check(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+            Scholarship scholarship = readScholarship();
+            ApplicationStatus applicationStatus = readApplicationStatus();
+            boolean hasPinned = payload.get() != 0;
+
+            int majorCount = readCount();
+            check(majorCount <= Major.MAXIMUM_NUMBER_OF_MAJORS, Major.MESSAGE_CONSTRAINTS);
+            Set<Major> applicantMajors = new HashSet<>();
+            for (int i = 0; i < majorCount; i++) {
+                applicantMajors.add(readMajor());
+            }
+
+            // name, phone and email have been checked above, so they are not validated again
+            return new Applicant(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email), scholarship,
+                    applicationStatus, applicantMajors, new Pin(hasPinned));
+        }
+
+        private Scholarship readScholarship() throws IllegalValueException {
+            int index = readStringIndex();
+            if (scholarships[index] == null) {
+                check(Scholarship.isValidScholarship(strings[index]), Scholarship.MESSAGE_CONSTRAINTS);
+                scholarships[index] = Scholarship.of(strings[index]);
+            }
+            return scholarships[index];
+        }
+
+        private ApplicationStatus readApplicationStatus() throws IllegalValueException {
+            int index = readStringIndex();
+            if (applicationStatuses[index] == null) {
+                check(ApplicationStatus.isValidApplicationStatus(strings[index]),
+                        ApplicationStatus.MESSAGE_CONSTRAINTS);
+                applicationStatuses[index] = ApplicationStatus.of(strings[index]);
+            }
+            return applicationStatuses[index];
+        }
+
+        private Major readMajor() throws IllegalValueException {
+            int index = readStringIndex();
+            if (majors[index] == null) {
+                check(Major.isValidMajor(strings[index]), Major.MESSAGE_CONSTRAINTS);
+                majors[index] = Major.of(strings[index]);
+            }
+            return majors[index];
+        }
+
+        private void check(boolean isValid, String message) throws IllegalValueException {
+            if (!isValid) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_APPLICANT, applicantCount, message));
+            }
+        }
+
+        private int readStringIndex() throws IllegalValueException {
+            int index = readVarInt();
+            if (index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return index;
+        }
+
+        /**
+         * Reads a count of items that each take at least a byte, so that a corrupted count fails before any
+         * space is allocated for them.
+         */
+        private int readCount() throws IllegalValueException {
+            int count = readVarInt();
+            if (count > payload.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return count;
+        }
+
+        private String readString() throws IllegalValueException {
+            byte[] bytes = new byte[readCount()];
+            payload.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int readVarInt() throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                byte b = payload.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED);
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * An output stream that counts the bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+
+}
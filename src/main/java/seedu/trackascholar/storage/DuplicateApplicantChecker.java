@@ -0,0 +1,36 @@
+package seedu.trackascholar.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.model.applicant.Applicant;
+
+/**
+ * Checks that the applicants of a file, read a chunk at a time, are all distinct, remembering only the identities
+ * of the applicants checked so far rather than the applicants themselves.
+ */
+public class DuplicateApplicantChecker {
+
+    private final Set<String> identityKeys = new HashSet<>();
+
+    /**
+     * Checks that the applicants of {@code chunk} are distinct from each other and from those of earlier chunks.
+     *
+     * @throws DataConversionException if an applicant has the same identity as one checked before it.
+     */
+    public void check(List<Applicant> chunk) throws DataConversionException {
+        requireNonNull(chunk);
+        for (Applicant applicant : chunk) {
+            if (!identityKeys.add(applicant.getName().getIdentityKey())) {
+                throw new DataConversionException(new IllegalValueException(
+                        JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_APPLICANT + " "
+                        + String.format(JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_NAMES, applicant.getName())));
+            }
+        }
+    }
+}
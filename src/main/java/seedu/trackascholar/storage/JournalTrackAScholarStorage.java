@@ -0,0 +1,445 @@
+package seedu.trackascholar.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.trackascholar.commons.core.LogsCenter;
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.commons.util.FileUtil;
+import seedu.trackascholar.commons.util.JsonUtil;
+import seedu.trackascholar.commons.util.StringUtil;
+import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.exceptions.DuplicateApplicantException;
+
+/**
+ * A class to access TrackAScholar data stored as a json snapshot file plus an append-only journal of the changes
+ * made since the snapshot was written.
+ * Saving appends only the changes since the previous save to the journal, and the journal is compacted into a new
+ * snapshot once it grows larger or older than the configured limits. Reading replays the journal on top of
+ * the snapshot.
+ */
+public class JournalTrackAScholarStorage implements TrackAScholarStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 4 * 1024 * 1024;
+    public static final Duration DEFAULT_MAX_JOURNAL_AGE = Duration.ofMinutes(30);
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final Logger logger = LogsCenter.getLogger(JournalTrackAScholarStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final JsonTrackAScholarStorage snapshotStorage;
+    private final long maxJournalBytes;
+    private final Duration maxJournalAge;
+    private final Clock clock;
+
+    /*
+     * The applicants as last read from or written to the storage, in order, or null if they are unknown.
+     * Applicants are immutable, so they are compared by identity to find what has changed since.
+     */
+    private List<Applicant> savedApplicants;
+    /* The content hash of the snapshot as last read from or written to the storage, which identifies it in the
+     * header of its journal. */
+    private String snapshotContentHash;
+    private long journalCreatedMillis;
+
+    public JournalTrackAScholarStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_BYTES, DEFAULT_MAX_JOURNAL_AGE, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a {@code JournalTrackAScholarStorage} with the snapshot at {@code filePath}, that compacts its
+     * journal once it is larger than {@code maxJournalBytes} or older than {@code maxJournalAge} by {@code clock}.
+     */
+    public JournalTrackAScholarStorage(Path filePath, long maxJournalBytes, Duration maxJournalAge, Clock clock) {
+        requireNonNull(filePath);
+        requireNonNull(maxJournalAge);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.snapshotStorage = new JsonTrackAScholarStorage(filePath);
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalAge = maxJournalAge;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getTrackAScholarFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the later of the times at which the snapshot and the journal were last modified, as changes saved to
+     * the journal leave the snapshot unchanged.
+     */
+    @Override
+    public FileTime getLastModifiedTime() throws IOException {
+        FileTime snapshotLastModified = Files.getLastModifiedTime(filePath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            return snapshotLastModified;
+        }
+        FileTime journalLastModified = Files.getLastModifiedTime(journalPath);
+        return journalLastModified.compareTo(snapshotLastModified) > 0 ? journalLastModified : snapshotLastModified;
+    }
+
+    @Override
+    public Optional<ReadOnlyTrackAScholar> readTrackAScholar() throws DataConversionException, IOException {
+        return readTrackAScholar(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTrackAScholar()}.
+     * Only reading from the file path of this storage lets later saves append to its journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTrackAScholar> readTrackAScholar(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            savedApplicants = null;
+            snapshotContentHash = null;
+        }
+
+        Optional<ReadOnlyTrackAScholar> snapshot = snapshotStorage.readTrackAScholar(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        String contentHash = StringUtil.toHexString(snapshotStorage.getLastContentHash());
+        List<Applicant> applicants = new ArrayList<>(snapshot.get().getApplicantList());
+        Path journalPathToReplay = getJournalPath(filePath);
+        if (FileUtil.isFileExists(journalPathToReplay)) {
+            replayJournal(contentHash, journalPathToReplay, applicants, isOwnFile);
+        }
+
+        TrackAScholar trackAScholar = new TrackAScholar();
+        try {
+            trackAScholar.setApplicants(applicants);
+        } catch (DuplicateApplicantException e) {
+            throw new DataConversionException(e);
+        }
+        if (isOwnFile) {
+            savedApplicants = new ArrayList<>(applicants);
+            snapshotContentHash = contentHash;
+        }
+        return Optional.of(trackAScholar);
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPathToReplay} to the {@code applicants} read from the
+     * snapshot with the content hash {@code snapshotContentHash}. A journal written for any other snapshot is
+     * skipped, as are the remains of a record that was being appended when the app stopped; both are removed if
+     * {@code canRepair} is true.
+     */
+    private void replayJournal(String snapshotContentHash, Path journalPathToReplay, List<Applicant> applicants,
+            boolean canRepair) throws DataConversionException, IOException {
+        byte[] journal = Files.readAllBytes(journalPathToReplay);
+        int lineStart = 0;
+        int recordCount = 0;
+        while (lineStart < journal.length) {
+            int lineEnd = indexOfNewline(journal, lineStart);
+            if (lineEnd < 0) {
+                logger.warning("Ignoring incomplete last record of journal " + journalPathToReplay);
+                if (canRepair) {
+                    truncate(journalPathToReplay, lineStart);
+                }
+                break;
+            }
+
+            String line = new String(journal, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            if (recordCount == 0 && !record.isHeaderOf(snapshotContentHash)) {
+                logger.info("Ignoring journal " + journalPathToReplay + " written for an older snapshot");
+                if (canRepair) {
+                    Files.delete(journalPathToReplay);
+                }
+                return;
+            }
+            if (recordCount == 0 && canRepair) {
+                journalCreatedMillis = record.getCreatedMillis();
+            }
+            if (recordCount > 0) {
+                try {
+                    record.applyTo(applicants);
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + journalPathToReplay + ": " + ive.getMessage());
+                    throw new DataConversionException(ive);
+                }
+            }
+
+            recordCount++;
+            lineStart = lineEnd + 1;
+        }
+
+        logger.fine("Replayed " + Math.max(0, recordCount - 1) + " records from journal " + journalPathToReplay);
+    }
+
+    private static int indexOfNewline(byte[] bytes, int fromIndex) {
+        for (int i = fromIndex; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    @Override
+    public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException {
+        saveTrackAScholar(trackAScholar, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTrackAScholar(ReadOnlyTrackAScholar)}.
+     * Saving to any other file path than the one of this storage writes a full snapshot there, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar, Path filePath) throws IOException {
+        requireNonNull(trackAScholar);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveTrackAScholar(trackAScholar, filePath);
+            return;
+        }
+
+        List<Applicant> applicants = new ArrayList<>(trackAScholar.getApplicantList());
+        List<Applicant> previousApplicants = savedApplicants;
+        // What is on the disk is unknown if saving fails midway, so the next save writes a full snapshot
+        savedApplicants = null;
+        if (previousApplicants == null || !FileUtil.isFileExists(filePath) || isJournalFull()) {
+            writeSnapshot(trackAScholar);
+        } else {
+            appendToJournal(toJournalRecords(previousApplicants, applicants));
+        }
+        savedApplicants = applicants;
+    }
+
+    /**
+     * Replays the journal, if any, into a new snapshot, so that the snapshot alone holds all the saved data,
+     * such as before the data file is used in another storage mode.
+     *
+     * @return true if a journal was compacted into the snapshot.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public boolean compactJournal() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+        // Reading ignores and removes a journal that does not belong to the snapshot
+        Optional<ReadOnlyTrackAScholar> trackAScholar = readTrackAScholar();
+        if (!trackAScholar.isPresent() || !FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+        savedApplicants = null;
+        writeSnapshot(trackAScholar.get());
+        savedApplicants = new ArrayList<>(trackAScholar.get().getApplicantList());
+        return true;
+    }
+
+    private boolean isJournalFull() throws IOException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+        return Files.size(journalPath) > maxJournalBytes
+                || clock.millis() - journalCreatedMillis > maxJournalAge.toMillis();
+    }
+
+    /**
+     * Writes all of {@code trackAScholar} to a new snapshot and removes the journal, which the snapshot replaces.
+     * The snapshot replaces the old one in a single step, so an interruption leaves either the old snapshot with
+     * its journal or the new snapshot with a journal whose header names the content hash of the old snapshot, and
+     * is therefore ignored. The content hash recorded for the new snapshot is moved along with it.
+     */
+    private void writeSnapshot(ReadOnlyTrackAScholar trackAScholar) throws IOException {
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        snapshotStorage.saveTrackAScholar(trackAScholar, temporaryPath);
+        String contentHash = StringUtil.toHexString(snapshotStorage.getLastContentHash());
+        FileUtil.moveReplacing(temporaryPath, filePath);
+        snapshotContentHash = contentHash;
+        Path temporaryContentHashPath = JsonTrackAScholarStorage.getContentHashPath(temporaryPath);
+        if (Files.exists(temporaryContentHashPath)) {
+            FileUtil.moveReplacing(temporaryContentHashPath, JsonTrackAScholarStorage.getContentHashPath(filePath));
+        } else {
+            Files.deleteIfExists(JsonTrackAScholarStorage.getContentHashPath(filePath));
+        }
+        Files.deleteIfExists(journalPath);
+        logger.fine("Compacted TrackAScholar data into snapshot " + filePath);
+    }
+
+    /**
+     * Appends {@code records} to the journal in a single write, and forces them to the disk before returning.
+     * A new journal starts with a header that identifies the current snapshot by its content hash.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalPath)) {
+            assert snapshotContentHash != null : "Only changes to a snapshot read or written before are journalled";
+            journalCreatedMillis = clock.millis();
+            lines.append(JsonUtil.toCompactJsonString(
+                    JsonAdaptedJournalRecord.header(snapshotContentHash, journalCreatedMillis))).append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        logger.fine("Appended " + records.size() + " records to journal " + journalPath);
+    }
+
+    /**
+     * Returns the journal records that turn {@code oldApplicants} into {@code newApplicants}.
+     * Edits, removals and additions at the end of the list are recorded as such. Any other change in the order of
+     * the applicants, such as a sort, is recorded as the removals and additions followed by a reordering.
+     */
+    static List<JsonAdaptedJournalRecord> toJournalRecords(List<Applicant> oldApplicants,
+            List<Applicant> newApplicants) {
+        Set<Applicant> oldApplicantSet = toIdentitySet(oldApplicants);
+        Set<Applicant> newApplicantSet = toIdentitySet(newApplicants);
+
+        List<JsonAdaptedJournalRecord> setRecords = new ArrayList<>();
+        List<Integer> removedIndices = new ArrayList<>();
+        int oldIndex = 0;
+        int newIndex = 0;
+        boolean isReordered = false;
+        while (oldIndex < oldApplicants.size() && newIndex < newApplicants.size()) {
+            Applicant oldApplicant = oldApplicants.get(oldIndex);
+            Applicant newApplicant = newApplicants.get(newIndex);
+            boolean isOldApplicantKept = newApplicantSet.contains(oldApplicant);
+            if (oldApplicant == newApplicant) {
+                oldIndex++;
+                newIndex++;
+            } else if (!isOldApplicantKept && !oldApplicantSet.contains(newApplicant)) {
+                setRecords.add(JsonAdaptedJournalRecord.set(oldIndex, newApplicant));
+                oldIndex++;
+                newIndex++;
+            } else if (!isOldApplicantKept) {
+                removedIndices.add(oldIndex);
+                oldIndex++;
+            } else {
+                isReordered = true;
+                break;
+            }
+        }
+        for (; !isReordered && oldIndex < oldApplicants.size(); oldIndex++) {
+            if (newApplicantSet.contains(oldApplicants.get(oldIndex))) {
+                isReordered = true;
+            } else {
+                removedIndices.add(oldIndex);
+            }
+        }
+        List<Applicant> addedApplicants = new ArrayList<>();
+        for (; !isReordered && newIndex < newApplicants.size(); newIndex++) {
+            if (oldApplicantSet.contains(newApplicants.get(newIndex))) {
+                isReordered = true;
+            } else {
+                addedApplicants.add(newApplicants.get(newIndex));
+            }
+        }
+
+        if (isReordered) {
+            return toReorderingJournalRecords(oldApplicants, newApplicants, oldApplicantSet, newApplicantSet);
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(setRecords);
+        if (!removedIndices.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.remove(removedIndices));
+        }
+        if (!addedApplicants.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.add(addedApplicants));
+        }
+        return records;
+    }
+
+    private static List<JsonAdaptedJournalRecord> toReorderingJournalRecords(List<Applicant> oldApplicants,
+            List<Applicant> newApplicants, Set<Applicant> oldApplicantSet, Set<Applicant> newApplicantSet) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        List<Integer> removedIndices = new ArrayList<>();
+        Map<Applicant, Integer> indexAfterChanges = new IdentityHashMap<>();
+        for (int i = 0; i < oldApplicants.size(); i++) {
+            if (newApplicantSet.contains(oldApplicants.get(i))) {
+                indexAfterChanges.put(oldApplicants.get(i), indexAfterChanges.size());
+            } else {
+                removedIndices.add(i);
+            }
+        }
+        if (!removedIndices.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.remove(removedIndices));
+        }
+
+        List<Applicant> addedApplicants = new ArrayList<>();
+        for (Applicant applicant : newApplicants) {
+            if (!oldApplicantSet.contains(applicant)) {
+                indexAfterChanges.put(applicant, indexAfterChanges.size());
+                addedApplicants.add(applicant);
+            }
+        }
+        if (!addedApplicants.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.add(addedApplicants));
+        }
+
+        List<Integer> order = new ArrayList<>(newApplicants.size());
+        for (Applicant applicant : newApplicants) {
+            order.add(indexAfterChanges.get(applicant));
+        }
+        records.add(JsonAdaptedJournalRecord.order(order));
+        return records;
+    }
+
+    private static Set<Applicant> toIdentitySet(List<Applicant> applicants) {
+        Set<Applicant> identitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        identitySet.addAll(applicants);
+        return identitySet;
+    }
+}
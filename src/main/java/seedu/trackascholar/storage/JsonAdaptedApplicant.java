@@ -118,7 +118,7 @@ class JsonAdaptedApplicant {
         if (!Scholarship.isValidScholarship(scholarship)) {
             throw new IllegalValueException(Scholarship.MESSAGE_CONSTRAINTS);
         }
-        final Scholarship modelScholarship = new Scholarship(scholarship);
+        final Scholarship modelScholarship = Scholarship.of(scholarship);
 
         if (applicationStatus == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -127,7 +127,7 @@ class JsonAdaptedApplicant {
         if (!ApplicationStatus.isValidApplicationStatus(applicationStatus)) {
             throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
-        final ApplicationStatus modelApplicationStatus = new ApplicationStatus(applicationStatus);
+        final ApplicationStatus modelApplicationStatus = ApplicationStatus.of(applicationStatus);
 
         if (applicantMajors.size() > Major.MAXIMUM_NUMBER_OF_MAJORS) {
             throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
@@ -139,4 +139,33 @@ class JsonAdaptedApplicant {
 
     }
 
+    /**
+     * Converts this Jackson-friendly adapted applicant object into the model's {@code Applicant} object without
+     * validating the values of its fields, which must be known to be valid.
+     *
+     * @throws IllegalValueException if any field is missing.
+     * @see Name#ofTrusted(String)
+     */
+    public Applicant toTrustedModelType() throws IllegalValueException {
+        requireField(name, Name.class);
+        requireField(phone, Phone.class);
+        requireField(email, Email.class);
+        requireField(scholarship, Scholarship.class);
+        requireField(applicationStatus, ApplicationStatus.class);
+
+        final Set<Major> modelMajors = new HashSet<>();
+        for (JsonAdaptedMajor major : majors) {
+            modelMajors.add(major.toTrustedModelType());
+        }
+        return new Applicant(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+                Scholarship.ofTrusted(scholarship), ApplicationStatus.of(applicationStatus), modelMajors,
+                new Pin(hasPinned));
+    }
+
+    private static void requireField(String field, Class<?> fieldClass) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
+        }
+    }
+
 }
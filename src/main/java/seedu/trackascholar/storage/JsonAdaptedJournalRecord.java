@@ -0,0 +1,221 @@
+package seedu.trackascholar.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.model.applicant.Applicant;
+
+/**
+ * Jackson-friendly version of a single record of the journal kept by {@link JournalTrackAScholarStorage}.
+ * Every record but the header describes one change to the list of applicants, by position in the list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %1$s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record refers to applicant %1$d of %2$d applicants";
+
+    /**
+     * The kinds of journal records.
+     */
+    enum Type {
+        /** The first record of a journal, identifying the snapshot that the rest of the journal applies to. */
+        HEADER,
+        /** Appends applicants to the end of the list. */
+        ADD,
+        /** Replaces the applicant at a position. */
+        SET,
+        /** Removes the applicants at several positions. */
+        REMOVE,
+        /** Reorders the list, listing the old position of every applicant in the new order. */
+        ORDER
+    }
+
+    private final Type type;
+    private final String snapshotContentHash;
+    private final Long createdMillis;
+    private final Integer index;
+    private final List<Integer> indices;
+    private final List<JsonAdaptedApplicant> applicants;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type,
+                                    @JsonProperty("snapshotContentHash") String snapshotContentHash,
+                                    @JsonProperty("createdMillis") Long createdMillis,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("indices") List<Integer> indices,
+                                    @JsonProperty("applicants") List<JsonAdaptedApplicant> applicants) {
+        this.type = type;
+        this.snapshotContentHash = snapshotContentHash;
+        this.createdMillis = createdMillis;
+        this.index = index;
+        this.indices = indices;
+        this.applicants = applicants;
+    }
+
+    /**
+     * Returns the header record of a journal that applies to the snapshot with the given content hash, and was
+     * created at {@code createdMillis}.
+     */
+    static JsonAdaptedJournalRecord header(String snapshotContentHash, long createdMillis) {
+        return new JsonAdaptedJournalRecord(Type.HEADER, snapshotContentHash, createdMillis, null, null, null);
+    }
+
+    /**
+     * Returns a record that appends {@code applicants} to the end of the list.
+     */
+    static JsonAdaptedJournalRecord add(List<Applicant> applicants) {
+        return new JsonAdaptedJournalRecord(Type.ADD, null, null, null, null, toAdaptedApplicants(applicants));
+    }
+
+    /**
+     * Returns a record that replaces the applicant at {@code index} with {@code applicant}.
+     */
+    static JsonAdaptedJournalRecord set(int index, Applicant applicant) {
+        return new JsonAdaptedJournalRecord(Type.SET, null, null, index, null,
+                toAdaptedApplicants(Collections.singletonList(applicant)));
+    }
+
+    /**
+     * Returns a record that removes the applicants at the ascending positions {@code indices}.
+     */
+    static JsonAdaptedJournalRecord remove(List<Integer> indices) {
+        return new JsonAdaptedJournalRecord(Type.REMOVE, null, null, null, indices, null);
+    }
+
+    /**
+     * Returns a record that reorders the list so that the applicant at position {@code indices.get(i)}
+     * moves to position {@code i}.
+     */
+    static JsonAdaptedJournalRecord order(List<Integer> indices) {
+        return new JsonAdaptedJournalRecord(Type.ORDER, null, null, null, indices, null);
+    }
+
+    private static List<JsonAdaptedApplicant> toAdaptedApplicants(List<Applicant> applicants) {
+        List<JsonAdaptedApplicant> adaptedApplicants = new ArrayList<>(applicants.size());
+        for (Applicant applicant : applicants) {
+            adaptedApplicants.add(new JsonAdaptedApplicant(applicant));
+        }
+        return adaptedApplicants;
+    }
+
+    /**
+     * Returns true if this is the header of a journal that applies to the snapshot with the given content hash.
+     */
+    boolean isHeaderOf(String snapshotContentHash) {
+        return type == Type.HEADER && snapshotContentHash.equals(this.snapshotContentHash);
+    }
+
+    /**
+     * Returns the time at which the journal that this header starts was created, or 0 if the header does not
+     * record it, so that such a journal is considered old.
+     */
+    long getCreatedMillis() {
+        assert type == Type.HEADER;
+        return createdMillis == null ? 0 : createdMillis;
+    }
+
+    /**
+     * Applies the change described by this record to {@code applicants}.
+     *
+     * @throws IllegalValueException if this record is incomplete, does not fit {@code applicants},
+     *     or contains an invalid applicant.
+     */
+    void applyTo(List<Applicant> applicants) throws IllegalValueException {
+        if (type == null || type == Type.HEADER) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+        }
+
+        switch (type) {
+        case ADD:
+            requirePresent(this.applicants);
+            for (JsonAdaptedApplicant applicant : this.applicants) {
+                applicants.add(applicant.toModelType());
+            }
+            break;
+        case SET:
+            requirePresent(index);
+            requirePresent(this.applicants);
+            if (this.applicants.size() != 1) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+            }
+            checkIndex(index, applicants.size());
+            applicants.set(index, this.applicants.get(0).toModelType());
+            break;
+        case REMOVE:
+            requirePresent(indices);
+            removeAll(applicants);
+            break;
+        case ORDER:
+            requirePresent(indices);
+            if (indices.size() != applicants.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+            }
+            boolean[] isMoved = new boolean[applicants.size()];
+            List<Applicant> reorderedApplicants = new ArrayList<>(applicants.size());
+            for (int oldIndex : indices) {
+                checkIndex(oldIndex, applicants.size());
+                if (isMoved[oldIndex]) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+                }
+                isMoved[oldIndex] = true;
+                reorderedApplicants.add(applicants.get(oldIndex));
+            }
+            applicants.clear();
+            applicants.addAll(reorderedApplicants);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+        }
+    }
+
+    /**
+     * Removes the applicants at {@code indices} from {@code applicants} in one pass, moving each remaining applicant
+     * at most once, after checking that the indices are strictly ascending and within the list.
+     */
+    private void removeAll(List<Applicant> applicants) throws IllegalValueException {
+        int previousIndex = -1;
+        for (Integer indexToRemove : indices) {
+            checkIndex(indexToRemove, applicants.size());
+            if (indexToRemove <= previousIndex) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+            }
+            previousIndex = indexToRemove;
+        }
+        if (indices.isEmpty()) {
+            return;
+        }
+
+        int writeIndex = indices.get(0);
+        int nextRemoved = 0;
+        for (int readIndex = writeIndex; readIndex < applicants.size(); readIndex++) {
+            if (nextRemoved < indices.size() && indices.get(nextRemoved) == readIndex) {
+                nextRemoved++;
+            } else {
+                applicants.set(writeIndex++, applicants.get(readIndex));
+            }
+        }
+        applicants.subList(writeIndex, applicants.size()).clear();
+    }
+
+    private void requirePresent(Object field) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+        }
+    }
+
+    private static void checkIndex(Integer index, int size) throws IllegalValueException {
+        if (index == null || index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index, size));
+        }
+    }
+}
@@ -42,7 +42,21 @@ class JsonAdaptedMajor {
         if (!Major.isValidMajor(major)) {
             throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
         }
-        return new Major(major);
+        return Major.of(major);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted major object into the model's {@code Major} object without
+     * validating it, so it must be known to be valid.
+     *
+     * @throws IllegalValueException if the major is missing.
+     * @see Major#ofTrusted(String)
+     */
+    public Major toTrustedModelType() throws IllegalValueException {
+        if (major == null) {
+            throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
+        }
+        return Major.ofTrusted(major);
     }
 
 }
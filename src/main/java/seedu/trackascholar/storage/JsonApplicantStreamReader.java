@@ -0,0 +1,135 @@
+package seedu.trackascholar.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.commons.util.JsonUtil;
+import seedu.trackascholar.model.applicant.Applicant;
+
+/**
+ * Reads the applicants of a TrackAScholar json file a chunk at a time, so that only the applicants of the current
+ * chunk are held in memory however large the file is.
+ * The file must have the same format as the files written by {@link JsonTrackAScholarStorage}.
+ */
+public class JsonApplicantStreamReader implements Closeable {
+
+    public static final String MESSAGE_MISSING_APPLICANTS = "Json file has no applicants field";
+    public static final String MESSAGE_INVALID_APPLICANT = ParallelApplicantConverter.MESSAGE_INVALID_APPLICANT;
+
+    private static final String APPLICANTS_FIELD = "applicants";
+
+    private final JsonParser parser;
+    private final long fileSize;
+    private int applicantCount;
+    private boolean isAtEnd;
+
+    /**
+     * Opens the file at {@code filePath} for reading and moves to the start of its list of applicants.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if the file cannot be read.
+     */
+    public JsonApplicantStreamReader(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        fileSize = Files.size(filePath);
+        parser = JsonUtil.createParser(filePath);
+        try {
+            moveToApplicants();
+        } catch (DataConversionException | IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    private void moveToApplicants() throws DataConversionException, IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_MISSING_APPLICANTS));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isApplicantsField = APPLICANTS_FIELD.equals(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (isApplicantsField && valueToken == JsonToken.START_ARRAY) {
+                    return;
+                }
+                parser.skipChildren();
+            }
+        } catch (JsonProcessingException e) {
+            throw new DataConversionException(e);
+        }
+        throw new DataConversionException(new IllegalValueException(MESSAGE_MISSING_APPLICANTS));
+    }
+
+    /**
+     * Returns the next {@code maxChunkSize} applicants in the file, or fewer if the file has fewer left.
+     * Returns an empty list once all applicants have been read.
+     * The applicants of a chunk are parsed one by one, and then validated and converted in parallel.
+     *
+     * @throws DataConversionException if the next applicants are not in the correct format or are invalid.
+     * @throws IOException if the file cannot be read.
+     */
+    public List<Applicant> readChunk(int maxChunkSize) throws DataConversionException, IOException {
+        assert maxChunkSize > 0;
+        List<JsonAdaptedApplicant> adaptedChunk = new ArrayList<>(maxChunkSize);
+        try {
+            while (!isAtEnd && adaptedChunk.size() < maxChunkSize) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY) {
+                    isAtEnd = true;
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new DataConversionException(new IllegalValueException(String.format(
+                            MESSAGE_INVALID_APPLICANT, applicantCount + adaptedChunk.size() + 1, token)));
+                }
+                adaptedChunk.add(JsonUtil.readValue(parser, JsonAdaptedApplicant.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new DataConversionException(e);
+        }
+
+        try {
+            List<Applicant> chunk = ParallelApplicantConverter.convert(adaptedChunk,
+                    JsonAdaptedApplicant::toModelType, applicantCount);
+            applicantCount += chunk.size();
+            return chunk;
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the number of applicants read so far.
+     */
+    public int getApplicantCount() {
+        return applicantCount;
+    }
+
+    /**
+     * Returns the fraction of the file read so far, from 0 to 1.
+     */
+    public double getFractionRead() {
+        if (fileSize == 0) {
+            return 1;
+        }
+        long bytesRead = parser.getCurrentLocation().getByteOffset();
+        return Math.min(1, Math.max(0, (double) bytesRead / fileSize));
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
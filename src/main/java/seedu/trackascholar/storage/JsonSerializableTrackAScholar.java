@@ -1,8 +1,8 @@
 package seedu.trackascholar.storage;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +12,7 @@ import seedu.trackascholar.commons.exceptions.IllegalValueException;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.TrackAScholar;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.exceptions.DuplicateApplicantException;
 
 /**
  * An Immutable TrackAScholar that is serializable to JSON format.
@@ -20,42 +21,85 @@ import seedu.trackascholar.model.applicant.Applicant;
 class JsonSerializableTrackAScholar {
 
     public static final String MESSAGE_DUPLICATE_APPLICANT = "Appplicants list contains duplicate applicant(s).";
+    public static final String MESSAGE_DUPLICATE_NAMES = "Duplicated names: %1$s";
 
-    private final List<JsonAdaptedApplicant> applicants = new ArrayList<>();
+    private final List<JsonAdaptedApplicant> applicants;
 
     /**
      * Constructs a {@code JsonSerializableTrackAScholar} with the given applicants.
      */
     @JsonCreator
     public JsonSerializableTrackAScholar(@JsonProperty("applicants") List<JsonAdaptedApplicant> applicants) {
-        this.applicants.addAll(applicants);
+        this.applicants = new ArrayList<>(applicants);
     }
 
     /**
      * Converts a given {@code ReadOnlyTrackAScholar} into this class for Jackson use.
+     * Each applicant is only adapted when it is serialized, so that a streaming save holds a single adapted
+     * applicant at a time.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableTrackAScholar}.
      */
     public JsonSerializableTrackAScholar(ReadOnlyTrackAScholar source) {
-        applicants.addAll(source.getApplicantList().stream()
-                .map(JsonAdaptedApplicant::new).collect(Collectors.toList()));
+        applicants = new AdaptingApplicantList(new ArrayList<>(source.getApplicantList()));
     }
 
     /**
      * Converts this TrackAScholar into the model's {@code TrackAScholar} object.
+     * Records are converted in parallel chunks, and duplicate applicants are then detected in a single pass
+     * over the converted applicants in their original order.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, naming the number of the first
+     *     invalid record.
+     * @see ParallelApplicantConverter
      */
     public TrackAScholar toModelType() throws IllegalValueException {
+        return toTrackAScholar(ParallelApplicantConverter.convert(applicants, JsonAdaptedApplicant::toModelType, 0));
+    }
+
+    /**
+     * Converts this TrackAScholar into the model's {@code TrackAScholar} object without validating the values of
+     * the fields of its applicants, which must be known to be valid. Duplicate applicants are still detected.
+     *
+     * @throws IllegalValueException if any field is missing or there are duplicate applicants.
+     * @see JsonAdaptedApplicant#toTrustedModelType()
+     */
+    public TrackAScholar toTrustedModelType() throws IllegalValueException {
+        return toTrackAScholar(ParallelApplicantConverter.convert(applicants,
+                JsonAdaptedApplicant::toTrustedModelType, 0));
+    }
+
+    private static TrackAScholar toTrackAScholar(List<Applicant> applicantList) throws IllegalValueException {
         TrackAScholar trackAScholar = new TrackAScholar();
-        for (JsonAdaptedApplicant jsonAdaptedApplicant : applicants) {
-            Applicant applicant = jsonAdaptedApplicant.toModelType();
-            if (trackAScholar.hasApplicant(applicant)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICANT);
-            }
-            trackAScholar.addApplicant(applicant);
+        try {
+            trackAScholar.setApplicants(applicantList);
+        } catch (DuplicateApplicantException e) {
+            String duplicateNames = DuplicateApplicantException.joinNames(e.getDuplicateNames());
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICANT + " "
+                    + String.format(MESSAGE_DUPLICATE_NAMES, duplicateNames));
         }
         return trackAScholar;
     }
 
+    /**
+     * An unmodifiable list that adapts the applicant at a position each time it is retrieved.
+     */
+    private static class AdaptingApplicantList extends AbstractList<JsonAdaptedApplicant> {
+        private final List<Applicant> applicants;
+
+        private AdaptingApplicantList(List<Applicant> applicants) {
+            this.applicants = applicants;
+        }
+
+        @Override
+        public JsonAdaptedApplicant get(int index) {
+            return new JsonAdaptedApplicant(applicants.get(index));
+        }
+
+        @Override
+        public int size() {
+            return applicants.size();
+        }
+    }
+
 }
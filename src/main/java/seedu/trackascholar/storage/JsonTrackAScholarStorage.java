@@ -3,8 +3,14 @@ package seedu.trackascholar.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.trackascholar.commons.core.LogsCenter;
@@ -12,19 +18,47 @@ import seedu.trackascholar.commons.exceptions.DataConversionException;
 import seedu.trackascholar.commons.exceptions.IllegalValueException;
 import seedu.trackascholar.commons.util.FileUtil;
 import seedu.trackascholar.commons.util.JsonUtil;
+import seedu.trackascholar.commons.util.StringUtil;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+import seedu.trackascholar.model.applicant.ApplicationStatus;
+import seedu.trackascholar.model.applicant.Scholarship;
+import seedu.trackascholar.model.major.Major;
 
 /**
  * A class to access TrackAScholar data stored as a json file on the hard disk.
+ * Every save also records a content hash of the file next to it. A file whose contents still match that hash has
+ * not been modified since TrackAScholar wrote it, so it is read without validating its values again.
  */
 public class JsonTrackAScholarStorage implements TrackAScholarStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTrackAScholarStorage.class);
 
+    private static final String MESSAGE_TRUSTED_CONVERSION =
+            "Loaded %1$d applicants from %2$s in %3$d ms without validation, as it is unchanged since it was saved";
+    private static final String MESSAGE_VALIDATED_CONVERSION =
+            "Loaded and validated %1$d applicants from %2$s in %3$d ms";
+    private static final String MESSAGE_INTERNED_REUSES =
+            "Reused shared scholarships, majors and application statuses %2$d times while reading %1$s, "
+            + "saving at least %3$d KB of heap";
+
+    private static final String CONTENT_HASH_FILE_SUFFIX = ".sha256";
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
     private Path filePath;
+    private final boolean isCompact;
+    private byte[] lastContentHash;
 
     public JsonTrackAScholarStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonTrackAScholarStorage} for the file at {@code filePath}.
+     * If {@code isCompact} is true, the file is saved without the whitespace that makes it readable.
+     */
+    public JsonTrackAScholarStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getTrackAScholarFilePath() {
@@ -45,20 +79,101 @@ public class JsonTrackAScholarStorage implements TrackAScholarStorage {
     public Optional<ReadOnlyTrackAScholar> readTrackAScholar(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTrackAScholar> jsonTrackAScholar = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTrackAScholar.class);
-        if (!jsonTrackAScholar.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        JsonSerializableTrackAScholar jsonTrackAScholar;
+        boolean isTrusted;
         try {
-            return Optional.of(jsonTrackAScholar.get().toModelType());
+            ByteBuffer contents = FileUtil.readToBuffer(filePath);
+            lastContentHash = computeContentHash(contents);
+            isTrusted = Arrays.equals(lastContentHash, readContentHash(filePath));
+            jsonTrackAScholar = JsonUtil.fromJsonBuffer(contents, JsonSerializableTrackAScholar.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        try {
+            long reusesBeforeConversion = getInternedReuseCount();
+            long bytesSavedBeforeConversion = getInternedBytesSaved();
+            long startTime = System.nanoTime();
+            ReadOnlyTrackAScholar trackAScholar = isTrusted
+                    ? jsonTrackAScholar.toTrustedModelType()
+                    : jsonTrackAScholar.toModelType();
+            logger.info(String.format(isTrusted ? MESSAGE_TRUSTED_CONVERSION : MESSAGE_VALIDATED_CONVERSION,
+                    trackAScholar.getApplicantList().size(), filePath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            logger.info(String.format(MESSAGE_INTERNED_REUSES, filePath,
+                    getInternedReuseCount() - reusesBeforeConversion,
+                    (getInternedBytesSaved() - bytesSavedBeforeConversion) / 1024));
+            return Optional.of(trackAScholar);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns the path of the file that holds the content hash of the data file at {@code filePath}, as recorded
+     * when TrackAScholar last saved it.
+     */
+    public static Path getContentHashPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CONTENT_HASH_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the content hash recorded for the data file at {@code filePath}, or null if there is none.
+     */
+    private static byte[] readContentHash(Path filePath) {
+        Path contentHashPath = getContentHashPath(filePath);
+        if (!Files.exists(contentHashPath)) {
+            return null;
+        }
+        try {
+            return StringUtil.fromHexString(FileUtil.readFromFile(contentHashPath).trim());
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Ignoring unreadable content hash " + contentHashPath + ": " + e);
+            return null;
+        }
+    }
+
+    private static byte[] computeContentHash(ByteBuffer contents) {
+        MessageDigest digest = createContentDigest();
+        digest.update(contents.duplicate());
+        return digest.digest();
+    }
+
+    private static MessageDigest createContentDigest() {
+        try {
+            return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + CONTENT_HASH_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Returns the number of times so far that an existing instance of a value that many applicants have in common
+     * was shared instead of a new one being created.
+     */
+    private static long getInternedReuseCount() {
+        return Scholarship.getInternPool().getReuseCount()
+                + Major.getInternPool().getReuseCount()
+                + ApplicationStatus.getInternPool().getReuseCount();
+    }
+
+    /**
+     * Returns the estimated number of bytes of heap saved so far by sharing the values counted by
+     * {@link #getInternedReuseCount()}.
+     */
+    private static long getInternedBytesSaved() {
+        return Scholarship.getInternPool().getEstimatedBytesSaved()
+                + Major.getInternPool().getEstimatedBytesSaved()
+                + ApplicationStatus.getInternPool().getEstimatedBytesSaved();
+    }
+
     @Override
     public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException {
         saveTrackAScholar(trackAScholar, filePath);
@@ -73,8 +188,38 @@ public class JsonTrackAScholarStorage implements TrackAScholarStorage {
         requireNonNull(trackAScholar);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTrackAScholar(trackAScholar), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        MessageDigest digest = createContentDigest();
+        // the file is replaced as a whole once the new contents are written, and only then is its hash recorded
+        JsonUtil.saveJsonFile(new JsonSerializableTrackAScholar(trackAScholar), filePath, isCompact, digest);
+        lastContentHash = digest.digest();
+        writeContentHash(filePath, lastContentHash);
+    }
+
+    /**
+     * Returns the content hash of the file that this storage last read or saved, whichever its path, or null if it
+     * has not read or saved any file yet.
+     */
+    byte[] getLastContentHash() {
+        return lastContentHash;
+    }
+
+    /**
+     * Records {@code contentHash} as the content hash of the data file at {@code filePath}.
+     * The data file has already been saved by then, so a failure only costs the next read its trusted fast path.
+     */
+    private static void writeContentHash(Path filePath, byte[] contentHash) {
+        Path contentHashPath = getContentHashPath(filePath);
+        try {
+            FileUtil.writeToFile(contentHashPath, StringUtil.toHexString(contentHash));
+        } catch (IOException e) {
+            logger.warning("Could not record the content hash of " + filePath + ": " + e);
+            try {
+                Files.deleteIfExists(contentHashPath);
+            } catch (IOException deleteException) {
+                logger.warning("Could not delete stale content hash " + contentHashPath + ": " + deleteException);
+            }
+        }
     }
 
 }
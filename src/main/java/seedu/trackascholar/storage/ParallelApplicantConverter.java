@@ -0,0 +1,140 @@
+package seedu.trackascholar.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.model.applicant.Applicant;
+
+/**
+ * Converts lists of {@code JsonAdaptedApplicant}s into the model's {@code Applicant}s, validating and building
+ * chunks of them in parallel on the common fork-join pool.
+ * The result does not depend on how the work is split: the applicants keep their order, and if any are invalid,
+ * the one that comes first is reported.
+ */
+class ParallelApplicantConverter {
+
+    public static final String MESSAGE_INVALID_APPLICANT = "Applicant %1$d is invalid: %2$s";
+
+    /** Lists of at most this many applicants are converted on the calling thread alone. */
+    static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private static final int MIN_CHUNK_SIZE = 128;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Converts a single adapted applicant.
+     */
+    @FunctionalInterface
+    interface Conversion {
+        Applicant convert(JsonAdaptedApplicant adaptedApplicant) throws IllegalValueException;
+    }
+
+    private ParallelApplicantConverter() {}
+
+    /**
+     * Returns the applicants converted from {@code adaptedApplicants} with {@code conversion}, in the same order.
+     *
+     * @param firstRecordIndex the index of the first of {@code adaptedApplicants} among all the applicants read,
+     *     by which invalid applicants are numbered in error messages.
+     * @throws IllegalValueException if any applicant is invalid, with the message of the first invalid applicant
+     *     and its record number, counting from 1.
+     */
+    static List<Applicant> convert(List<JsonAdaptedApplicant> adaptedApplicants, Conversion conversion,
+            int firstRecordIndex) throws IllegalValueException {
+        requireNonNull(adaptedApplicants);
+        requireNonNull(conversion);
+
+        Applicant[] applicants = new Applicant[adaptedApplicants.size()];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE,
+                applicants.length / (ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD));
+        ConversionTask task = new ConversionTask(adaptedApplicants, conversion, applicants, 0, applicants.length,
+                chunkSize, new AtomicInteger(Integer.MAX_VALUE));
+        Failure failure = applicants.length <= SEQUENTIAL_THRESHOLD
+                ? task.convertSequentially()
+                : ForkJoinPool.commonPool().invoke(task);
+
+        if (failure != null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_APPLICANT,
+                    firstRecordIndex + failure.index + 1, failure.cause.getMessage()));
+        }
+        return Arrays.asList(applicants);
+    }
+
+    /**
+     * An invalid applicant, at {@code index} of the list being converted.
+     */
+    private static class Failure {
+        private final int index;
+        private final IllegalValueException cause;
+
+        private Failure(int index, IllegalValueException cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Converts the applicants in a range of the list, splitting it in halves that are converted in parallel until
+     * the halves are no longer than the chunk size. Returns the first invalid applicant in the range, if any.
+     */
+    private static class ConversionTask extends RecursiveTask<Failure> {
+        private final List<JsonAdaptedApplicant> adaptedApplicants;
+        private final Conversion conversion;
+        private final Applicant[] applicants;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+
+        /*
+         * The lowest index of an invalid applicant found so far by any task. Applicants after it cannot change
+         * the result, so tasks stop converting them.
+         */
+        private final AtomicInteger firstFailedIndex;
+
+        private ConversionTask(List<JsonAdaptedApplicant> adaptedApplicants, Conversion conversion,
+                Applicant[] applicants, int start, int end, int chunkSize, AtomicInteger firstFailedIndex) {
+            this.adaptedApplicants = adaptedApplicants;
+            this.conversion = conversion;
+            this.applicants = applicants;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.firstFailedIndex = firstFailedIndex;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (end - start <= chunkSize) {
+                return convertSequentially();
+            }
+            int middle = (start + end) >>> 1;
+            ConversionTask firstHalf = new ConversionTask(adaptedApplicants, conversion, applicants, start, middle,
+                    chunkSize, firstFailedIndex);
+            ConversionTask secondHalf = new ConversionTask(adaptedApplicants, conversion, applicants, middle, end,
+                    chunkSize, firstFailedIndex);
+            secondHalf.fork();
+            Failure firstHalfFailure = firstHalf.compute();
+            Failure secondHalfFailure = secondHalf.join();
+            return firstHalfFailure != null ? firstHalfFailure : secondHalfFailure;
+        }
+
+        private Failure convertSequentially() {
+            for (int i = start; i < end && i < firstFailedIndex.get(); i++) {
+                try {
+                    applicants[i] = conversion.convert(adaptedApplicants.get(i));
+                } catch (IllegalValueException ive) {
+                    firstFailedIndex.accumulateAndGet(i, Math::min);
+                    return new Failure(i, ive);
+                }
+            }
+            return null;
+        }
+    }
+
+}
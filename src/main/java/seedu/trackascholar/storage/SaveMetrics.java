@@ -0,0 +1,86 @@
+package seedu.trackascholar.storage;
+
+/**
+ * Counts the saves of TrackAScholar data and how long they took.
+ * The latency of a save is the time from when it was requested until the data was written, and includes the time
+ * spent waiting for the background writer.
+ */
+public class SaveMetrics {
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private long requestCount;
+    private long coalescedCount;
+    private long writeCount;
+    private long failureCount;
+    private long totalWriteNanos;
+    private long maxWriteNanos;
+    private long lastLatencyNanos;
+    private long maxLatencyNanos;
+
+    /**
+     * Records a request to save the data.
+     *
+     * @param isCoalesced true if the request replaced data that was still waiting to be written.
+     */
+    synchronized void recordRequest(boolean isCoalesced) {
+        requestCount++;
+        if (isCoalesced) {
+            coalescedCount++;
+        }
+    }
+
+    /**
+     * Records a write of the data that took {@code writeNanos}, {@code latencyNanos} after it was requested.
+     */
+    synchronized void recordWrite(long writeNanos, long latencyNanos, boolean isSuccessful) {
+        writeCount++;
+        if (!isSuccessful) {
+            failureCount++;
+        }
+        totalWriteNanos += writeNanos;
+        maxWriteNanos = Math.max(maxWriteNanos, writeNanos);
+        lastLatencyNanos = latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+    }
+
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public synchronized long getWriteCount() {
+        return writeCount;
+    }
+
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    public synchronized double getAverageWriteMillis() {
+        return writeCount == 0 ? 0 : (double) totalWriteNanos / writeCount / NANOS_PER_MILLI;
+    }
+
+    public synchronized double getMaxWriteMillis() {
+        return (double) maxWriteNanos / NANOS_PER_MILLI;
+    }
+
+    public synchronized double getLastLatencyMillis() {
+        return (double) lastLatencyNanos / NANOS_PER_MILLI;
+    }
+
+    public synchronized double getMaxLatencyMillis() {
+        return (double) maxLatencyNanos / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d saves requested, %d coalesced, %d written, %d failed; "
+                + "write time avg %.1f ms, max %.1f ms; latency last %.1f ms, max %.1f ms",
+                requestCount, coalescedCount, writeCount, failureCount, getAverageWriteMillis(), getMaxWriteMillis(),
+                getLastLatencyMillis(), getMaxLatencyMillis());
+    }
+}
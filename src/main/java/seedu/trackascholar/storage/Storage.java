@@ -2,18 +2,33 @@ package seedu.trackascholar.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.trackascholar.commons.exceptions.DataConversionException;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.ReadOnlyUserPrefs;
 import seedu.trackascholar.model.UserPrefs;
+import seedu.trackascholar.model.applicant.Applicant;
 
 /**
  * API of the Storage component.
  */
 public interface Storage extends TrackAScholarStorage, UserPrefsStorage {
 
+    /**
+     * Receives the applicants of a TrackAScholar data file a chunk at a time, as they are read.
+     */
+    @FunctionalInterface
+    interface ApplicantChunkConsumer {
+        /**
+         * Called with the next {@code chunk} of applicants, after {@code fractionRead} of the file has been read.
+         *
+         * @throws DataConversionException to stop reading the file, if the applicants read so far are invalid.
+         */
+        void accept(List<Applicant> chunk, double fractionRead) throws DataConversionException;
+    }
+
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
 
@@ -26,7 +41,53 @@ public interface Storage extends TrackAScholarStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyTrackAScholar> readTrackAScholar() throws DataConversionException, IOException;
 
+    /**
+     * Reads the applicants of the TrackAScholar data file at most {@code maxChunkSize} at a time, passing each chunk
+     * to {@code chunkConsumer} on the calling thread as soon as it has been read.
+     * The applicants of the chunks are valid, but are not checked for duplicates across chunks.
+     *
+     * @return false if the data file is not found.
+     * @throws DataConversionException if the data file is not in the correct format, or if thrown by
+     *     {@code chunkConsumer}.
+     * @throws IOException if there was an error while reading the data file.
+     */
+    boolean readApplicantsInChunks(int maxChunkSize, ApplicantChunkConsumer chunkConsumer)
+            throws DataConversionException, IOException;
+
     @Override
     void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException;
 
+    /**
+     * Saves {@code trackAScholar}, either immediately or later on a background thread.
+     * In the latter case, only a copy of {@code trackAScholar} taken now is saved, and saves requested in quick
+     * succession may be combined into one.
+     *
+     * @throws IOException if {@code trackAScholar} was saved immediately and there was an error while saving.
+     */
+    void requestSaveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException;
+
+    /**
+     * Returns the error of the latest background save that failed since this method was last called, if any.
+     */
+    Optional<IOException> pollTrackAScholarSaveFailure();
+
+    /**
+     * Waits until all requested saves are done.
+     *
+     * @throws IOException if a background save failed since {@link #pollTrackAScholarSaveFailure()} was last called.
+     */
+    void flushTrackAScholar() throws IOException;
+
+    /**
+     * Completes all requested saves and stops saving in the background.
+     *
+     * @throws IOException if a background save failed since {@link #pollTrackAScholarSaveFailure()} was last called.
+     */
+    void shutdown() throws IOException;
+
+    /**
+     * Returns the counts and timings of the saves requested so far.
+     */
+    SaveMetrics getSaveMetrics();
+
 }
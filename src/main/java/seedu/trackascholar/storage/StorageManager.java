@@ -1,7 +1,11 @@
 package seedu.trackascholar.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +14,7 @@ import seedu.trackascholar.commons.exceptions.DataConversionException;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.ReadOnlyUserPrefs;
 import seedu.trackascholar.model.UserPrefs;
+import seedu.trackascholar.model.applicant.Applicant;
 
 /**
  * Manages storage of TrackAScholar data in local storage.
@@ -19,13 +24,28 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TrackAScholarStorage trackAScholarStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final SaveMetrics saveMetrics = new SaveMetrics();
+    private final BackgroundTrackAScholarSaver backgroundSaver;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code TrackAScholarStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code TrackAScholarStorage} and {@code UserPrefStorage},
+     * that saves requested TrackAScholar data immediately.
      */
     public StorageManager(TrackAScholarStorage trackAScholarStorage, UserPrefsStorage userPrefsStorage) {
+        this(trackAScholarStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code TrackAScholarStorage} and {@code UserPrefStorage}.
+     * If {@code isSavingInBackground} is true, requested TrackAScholar data is saved on a background thread.
+     */
+    public StorageManager(TrackAScholarStorage trackAScholarStorage, UserPrefsStorage userPrefsStorage,
+            boolean isSavingInBackground) {
         this.trackAScholarStorage = trackAScholarStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundSaver = isSavingInBackground
+                ? new BackgroundTrackAScholarSaver(trackAScholarStorage, saveMetrics)
+                : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -53,6 +73,11 @@ public class StorageManager implements Storage {
         return trackAScholarStorage.getTrackAScholarFilePath();
     }
 
+    @Override
+    public FileTime getLastModifiedTime() throws IOException {
+        return trackAScholarStorage.getLastModifiedTime();
+    }
+
     @Override
     public Optional<ReadOnlyTrackAScholar> readTrackAScholar() throws DataConversionException, IOException {
         return readTrackAScholar(trackAScholarStorage.getTrackAScholarFilePath());
@@ -65,6 +90,45 @@ public class StorageManager implements Storage {
         return trackAScholarStorage.readTrackAScholar(filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * Json data files are parsed incrementally, a chunk at a time. Data files in other formats are read as a whole
+     * first, and then handed over in chunks.
+     */
+    @Override
+    public boolean readApplicantsInChunks(int maxChunkSize, ApplicantChunkConsumer chunkConsumer)
+            throws DataConversionException, IOException {
+        assert maxChunkSize > 0;
+        Path filePath = trackAScholarStorage.getTrackAScholarFilePath();
+        logger.fine("Attempting to read data in chunks from file: " + filePath);
+
+        if (!(trackAScholarStorage instanceof JsonTrackAScholarStorage)) {
+            Optional<ReadOnlyTrackAScholar> trackAScholar = trackAScholarStorage.readTrackAScholar();
+            if (!trackAScholar.isPresent()) {
+                return false;
+            }
+            List<Applicant> applicants = trackAScholar.get().getApplicantList();
+            for (int start = 0; start < applicants.size(); start += maxChunkSize) {
+                int end = Math.min(start + maxChunkSize, applicants.size());
+                chunkConsumer.accept(new ArrayList<>(applicants.subList(start, end)),
+                        (double) end / applicants.size());
+            }
+            return true;
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+        try (JsonApplicantStreamReader reader = new JsonApplicantStreamReader(filePath)) {
+            for (List<Applicant> chunk = reader.readChunk(maxChunkSize); !chunk.isEmpty();
+                    chunk = reader.readChunk(maxChunkSize)) {
+                chunkConsumer.accept(chunk, reader.getFractionRead());
+            }
+        }
+        return true;
+    }
+
     @Override
     public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException {
         saveTrackAScholar(trackAScholar, trackAScholarStorage.getTrackAScholarFilePath());
@@ -76,4 +140,49 @@ public class StorageManager implements Storage {
         trackAScholarStorage.saveTrackAScholar(trackAScholar, filePath);
     }
 
+    @Override
+    public void requestSaveTrackAScholar(ReadOnlyTrackAScholar trackAScholar) throws IOException {
+        if (backgroundSaver != null) {
+            logger.fine("Scheduling write to data file: " + getTrackAScholarFilePath());
+            backgroundSaver.submit(new TrackAScholarSnapshot(trackAScholar));
+            return;
+        }
+
+        saveMetrics.recordRequest(false);
+        long startNanos = System.nanoTime();
+        boolean isSuccessful = false;
+        try {
+            saveTrackAScholar(trackAScholar);
+            isSuccessful = true;
+        } finally {
+            long writeNanos = System.nanoTime() - startNanos;
+            saveMetrics.recordWrite(writeNanos, writeNanos, isSuccessful);
+        }
+    }
+
+    @Override
+    public Optional<IOException> pollTrackAScholarSaveFailure() {
+        return backgroundSaver == null ? Optional.empty() : backgroundSaver.pollFailure();
+    }
+
+    @Override
+    public void flushTrackAScholar() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+    }
+
+    @Override
+    public void shutdown() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.shutdown();
+        }
+        logger.info("TrackAScholar saves: " + saveMetrics);
+    }
+
+    @Override
+    public SaveMetrics getSaveMetrics() {
+        return saveMetrics;
+    }
+
 }
@@ -0,0 +1,26 @@
+package seedu.trackascholar.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+import seedu.trackascholar.model.applicant.Applicant;
+
+/**
+ * An immutable copy of the applicants of a {@code ReadOnlyTrackAScholar}, which can be written by another thread
+ * while the original keeps changing.
+ * Applicants are immutable, so only the list is copied.
+ */
+class TrackAScholarSnapshot implements ReadOnlyTrackAScholar {
+
+    private final ObservableList<Applicant> applicants;
+
+    TrackAScholarSnapshot(ReadOnlyTrackAScholar trackAScholar) {
+        applicants = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(trackAScholar.getApplicantList()));
+    }
+
+    @Override
+    public ObservableList<Applicant> getApplicantList() {
+        return applicants;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.trackascholar.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 
 import seedu.trackascholar.commons.exceptions.DataConversionException;
@@ -18,6 +20,16 @@ public interface TrackAScholarStorage {
      */
     Path getTrackAScholarFilePath();
 
+    /**
+     * Returns the time at which the data of this storage was last saved, which must exist.
+     * This is the time at which the data file was last modified, unless the storage keeps its data in more files.
+     *
+     * @throws IOException if there was any problem when reading the modification time.
+     */
+    default FileTime getLastModifiedTime() throws IOException {
+        return Files.getLastModifiedTime(getTrackAScholarFilePath());
+    }
+
     /**
      * Returns TrackAScholar data as a {@link ReadOnlyTrackAScholar}.
      *   Returns {@code Optional.empty()} if storage file is not found.
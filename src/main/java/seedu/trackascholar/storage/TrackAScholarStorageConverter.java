@@ -0,0 +1,134 @@
+package seedu.trackascholar.storage;
+
+import static seedu.trackascholar.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.trackascholar.commons.core.LogsCenter;
+import seedu.trackascholar.commons.core.StorageMode;
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.util.StringUtil;
+import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+
+/**
+ * Converts TrackAScholar data between the formats of different {@code TrackAScholarStorage}s,
+ * such as from a json data file to a binary snapshot and back.
+ */
+public class TrackAScholarStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TrackAScholarStorageConverter.class);
+
+    private TrackAScholarStorageConverter() {}
+
+    /**
+     * Saves the data read from {@code source} to {@code target}.
+     *
+     * @return true if {@code source} had data to convert, or false if its file does not exist.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(TrackAScholarStorage source, TrackAScholarStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyTrackAScholar> trackAScholar = source.readTrackAScholar();
+        if (!trackAScholar.isPresent()) {
+            return false;
+        }
+        target.saveTrackAScholar(trackAScholar.get());
+        logger.info("Converted TrackAScholar data from " + source.getTrackAScholarFilePath()
+                + " to " + target.getTrackAScholarFilePath());
+        return true;
+    }
+
+    /**
+     * Returns a {@code TrackAScholarStorage} for the data file at {@code filePath}, kept in {@code storageMode}.
+     * The data saved in another storage mode for the same data file is carried over first if it is newer, such as
+     * after the storage mode has been switched. The data of the returned storage is used as it is if the conversion
+     * fails. Outside of {@code StorageMode.JOURNAL}, a journal left next to the data file is compacted into it first,
+     * as only journal storage reads the journal.
+     */
+    public static TrackAScholarStorage createStorage(StorageMode storageMode, Path filePath) {
+        requireAllNonNull(storageMode, filePath);
+
+        BinaryTrackAScholarStorage binaryStorage =
+                new BinaryTrackAScholarStorage(BinaryTrackAScholarStorage.getSnapshotPath(filePath));
+        switch (storageMode) {
+        case JOURNAL:
+            JournalTrackAScholarStorage journalStorage = new JournalTrackAScholarStorage(filePath);
+            logger.info("Using journal storage for " + filePath);
+            convertIfNewerOrWarn(binaryStorage, journalStorage);
+            return journalStorage;
+        case BINARY:
+            compactJournalOrWarn(filePath);
+            logger.info("Using binary snapshot storage for " + binaryStorage.getTrackAScholarFilePath());
+            convertIfNewerOrWarn(new JournalTrackAScholarStorage(filePath), binaryStorage);
+            return binaryStorage;
+        default:
+            compactJournalOrWarn(filePath);
+            JsonTrackAScholarStorage jsonStorage = new JsonTrackAScholarStorage(filePath);
+            convertIfNewerOrWarn(binaryStorage, jsonStorage);
+            return jsonStorage;
+        }
+    }
+
+    /**
+     * Compacts the journal of the data file at {@code filePath}, if any, keeping the time at which its latest data
+     * was saved as the modification time of the data file, so that it is not mistaken for newer data than that
+     * saved in other storage modes since.
+     */
+    private static void compactJournalOrWarn(Path filePath) {
+        JournalTrackAScholarStorage journalStorage = new JournalTrackAScholarStorage(filePath);
+        try {
+            if (!Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)) || !Files.exists(filePath)) {
+                return;
+            }
+            FileTime lastModified = journalStorage.getLastModifiedTime();
+            if (journalStorage.compactJournal()) {
+                Files.setLastModifiedTime(filePath, lastModified);
+                logger.info("Compacted leftover journal of " + filePath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not compact the journal of " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static void convertIfNewerOrWarn(TrackAScholarStorage source, TrackAScholarStorage target) {
+        try {
+            convertIfNewer(source, target);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert " + source.getTrackAScholarFilePath() + " to "
+                    + target.getTrackAScholarFilePath() + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the data of {@code source} to {@code target} if the data of {@code source} has been saved since
+     * the data of {@code target} was, or if the file of {@code target} does not exist, so that switching between
+     * formats carries over the latest data.
+     *
+     * @return true if the data was converted.
+     * @see #convert(TrackAScholarStorage, TrackAScholarStorage)
+     */
+    public static boolean convertIfNewer(TrackAScholarStorage source, TrackAScholarStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Path sourcePath = source.getTrackAScholarFilePath();
+        Path targetPath = target.getTrackAScholarFilePath();
+        if (!Files.exists(sourcePath)) {
+            return false;
+        }
+        if (Files.exists(targetPath)
+                && source.getLastModifiedTime().compareTo(target.getLastModifiedTime()) <= 0) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+}
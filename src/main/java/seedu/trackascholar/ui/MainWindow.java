@@ -125,8 +125,13 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTrackAScholarFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTrackAScholarFilePath(),
+                logic.getTrackAScholar().getApplicantList(), logic::countApplicantsByStatus);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (logic.isLoading()) {
+            statusBarFooter.updateLoadingProgress(logic.getTrackAScholar().getApplicantList().size(), 0, false);
+            logic.addLoadingListener(statusBarFooter::updateLoadingProgress);
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
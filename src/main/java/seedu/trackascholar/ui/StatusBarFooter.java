@@ -2,10 +2,16 @@ package seedu.trackascholar.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.ToIntFunction;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.ApplicationStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,16 +19,61 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String APPLICANT_COUNT_FORMAT = "Pending: %d | Accepted: %d | Rejected: %d";
+    private static final String LOADING_FORMAT = "Loading applicants... %d loaded";
+
+    private static final ApplicationStatus PENDING = ApplicationStatus.of(ApplicationStatus.PENDING);
+    private static final ApplicationStatus ACCEPTED = ApplicationStatus.of(ApplicationStatus.ACCEPTED);
+    private static final ApplicationStatus REJECTED = ApplicationStatus.of(ApplicationStatus.REJECTED);
+
+    private final ToIntFunction<ApplicationStatus> applicantCounter;
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label applicantCountStatus;
+
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private ProgressBar loadingProgress;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows live counts of the
+     * {@code applicantList} by application status as reported by {@code applicantCounter}.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableList<Applicant> applicantList,
+                           ToIntFunction<ApplicationStatus> applicantCounter) {
         super(FXML);
+        this.applicantCounter = applicantCounter;
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        updateApplicantCounts();
+        applicantList.addListener((ListChangeListener<Applicant>) change -> updateApplicantCounts());
+    }
+
+    /**
+     * Shows the progress of loading applicants in the background, or hides it once {@code isFinished}.
+     */
+    public void updateLoadingProgress(int applicantCount, double fractionRead, boolean isFinished) {
+        setLoadingIndicatorShown(!isFinished);
+        loadingStatus.setText(String.format(LOADING_FORMAT, applicantCount));
+        loadingProgress.setProgress(fractionRead);
+    }
+
+    private void setLoadingIndicatorShown(boolean isShown) {
+        loadingStatus.setVisible(isShown);
+        loadingStatus.setManaged(isShown);
+        loadingProgress.setVisible(isShown);
+        loadingProgress.setManaged(isShown);
+    }
+
+    private void updateApplicantCounts() {
+        applicantCountStatus.setText(String.format(APPLICANT_COUNT_FORMAT,
+                applicantCounter.applyAsInt(PENDING),
+                applicantCounter.applyAsInt(ACCEPTED),
+                applicantCounter.applyAsInt(REJECTED)));
     }
 
 }
@@ -1,7 +1,9 @@
 package seedu.trackascholar.ui;
 
+import java.lang.management.ManagementFactory;
 import java.util.logging.Logger;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
@@ -24,12 +26,22 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private Runnable firstFrameListener;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, () -> {});
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, that runs {@code firstFrameListener} once the
+     * first frame of the main window has been rendered.
+     */
+    public UiManager(Logic logic, Runnable firstFrameListener) {
         this.logic = logic;
+        this.firstFrameListener = firstFrameListener;
     }
 
     @Override
@@ -43,6 +55,7 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            logTimeToFirstFrame();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +63,23 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Logs how long after the JVM started the first frame of the main window is rendered, and then notifies the
+     * first frame listener.
+     */
+    private void logTimeToFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                // Runs on the first pulse, which renders the first frame
+                stop();
+                logger.info("First frame shown " + ManagementFactory.getRuntimeMXBean().getUptime()
+                        + " ms after launch");
+                firstFrameListener.run();
+            }
+        }.start();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -37,6 +37,20 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validStartupProfilePath_success() {
+        parametersStub.namedParameters.put("startupProfile", "startupProfile.json");
+        expected.setStartupProfilePath(Paths.get("startupProfile.json"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidStartupProfilePath_success() {
+        parametersStub.namedParameters.put("startupProfile", "a\0");
+        expected.setStartupProfilePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
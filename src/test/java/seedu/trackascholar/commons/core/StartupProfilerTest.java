@@ -0,0 +1,90 @@
+package seedu.trackascholar.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackascholar.commons.util.FileUtil;
+import seedu.trackascholar.commons.util.JsonUtil;
+
+public class StartupProfilerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StartupProfiler(null, testFolder.resolve("profile.json")));
+        assertThrows(NullPointerException.class, () -> new StartupProfiler("V1.0.0", null));
+    }
+
+    @Test
+    public void startPhase_consecutivePhases_measuredInOrder() {
+        StartupProfiler startupProfiler = new StartupProfiler("V1.0.0", testFolder.resolve("profile.json"));
+        startupProfiler.startPhase("first");
+        startupProfiler.startPhase("second");
+        byte[][] allocations = new byte[64][];
+        for (int i = 0; i < allocations.length; i++) {
+            allocations[i] = new byte[1024];
+        }
+        startupProfiler.endPhase();
+
+        // ending a phase twice has no effect
+        startupProfiler.endPhase();
+
+        List<StartupProfiler.Phase> phases = startupProfiler.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("first", phases.get(0).getName());
+        assertEquals("second", phases.get(1).getName());
+        for (StartupProfiler.Phase phase : phases) {
+            assertTrue(phase.getWallMillis() >= 0);
+            assertTrue(phase.getGcMillis() >= 0);
+            assertTrue(phase.getGcCount() >= 0);
+        }
+        long allocatedBytes = phases.get(1).getAllocatedBytes();
+        assertTrue(allocatedBytes == StartupProfiler.UNSUPPORTED || allocatedBytes >= 64 * 1024);
+    }
+
+    @Test
+    public void finish_enabledProfiler_writesReport() throws Exception {
+        Path reportFilePath = testFolder.resolve("profiles").resolve("profile.json");
+        StartupProfiler startupProfiler = new StartupProfiler("V1.0.0", reportFilePath);
+        startupProfiler.startPhase("config");
+        startupProfiler.startPhase("storage");
+        startupProfiler.finish();
+
+        Map<?, ?> report = JsonUtil.fromJsonString(FileUtil.readFromFile(reportFilePath), Map.class);
+        assertEquals("V1.0.0", report.get("version"));
+        assertTrue(report.containsKey("timeToInteractiveMillis"));
+        List<?> phases = (List<?>) report.get("phases");
+        assertEquals(2, phases.size());
+        assertEquals("config", ((Map<?, ?>) phases.get(0)).get("name"));
+        assertTrue(((Map<?, ?>) phases.get(1)).containsKey("allocatedBytes"));
+
+        // phases after finishing are not measured
+        startupProfiler.startPhase("late");
+        startupProfiler.finish();
+        assertEquals(2, startupProfiler.getPhases().size());
+    }
+
+    @Test
+    public void finish_disabledProfiler_measuresNothing() {
+        StartupProfiler startupProfiler = StartupProfiler.createDisabled();
+        assertFalse(startupProfiler.isEnabled());
+
+        startupProfiler.startPhase("config");
+        startupProfiler.finish();
+
+        assertTrue(startupProfiler.getPhases().isEmpty());
+        assertFalse(Files.exists(testFolder.resolve("profile.json")));
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.trackascholar.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,37 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readToBuffer_smallFile_returnsContents() throws Exception {
+        Path file = testFolder.resolve("small.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals(ByteBuffer.wrap("content".getBytes(StandardCharsets.UTF_8)), FileUtil.readToBuffer(file));
+    }
+
+    @Test
+    public void readToBuffer_largeFile_returnsContents() throws Exception {
+        Path file = testFolder.resolve("large.txt");
+        char[] characters = new char[(int) FileUtil.MAPPED_READ_THRESHOLD + 1];
+        Arrays.fill(characters, 'a');
+        String content = new String(characters);
+        FileUtil.writeToFile(file, content);
+        assertEquals(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)), FileUtil.readToBuffer(file));
+    }
+
+    @Test
+    public void mapForReading_emptyFile_returnsEmptyBuffer() throws Exception {
+        Path file = testFolder.resolve("empty.txt");
+        FileUtil.writeToFile(file, "");
+        assertFalse(FileUtil.mapForReading(file).hasRemaining());
+    }
+
+    @Test
+    public void mapForReading_readOnly() throws Exception {
+        Path file = testFolder.resolve("mapped.txt");
+        FileUtil.writeToFile(file, "content");
+        ByteBuffer buffer = FileUtil.mapForReading(file);
+        assertTrue(buffer.isReadOnly());
+        assertEquals(ByteBuffer.wrap("content".getBytes(StandardCharsets.UTF_8)), buffer);
+    }
+
 }
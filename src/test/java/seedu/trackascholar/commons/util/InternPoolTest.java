@@ -0,0 +1,74 @@
+package seedu.trackascholar.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        InternPool<String> internPool = new InternPool<>(String::new);
+        assertThrows(NullPointerException.class, () -> internPool.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        InternPool<String> internPool = new InternPool<>(String::new);
+        String first = internPool.intern("abc");
+        assertSame(first, internPool.intern(new String("abc")));
+        assertNotSame(first, internPool.intern("abd"));
+
+        assertEquals(2, internPool.size());
+        assertEquals(1, internPool.getReuseCount());
+    }
+
+    @Test
+    public void getEstimatedBytesSaved_reusedValues_countsShallowSizeOfEachReuse() {
+        InternPool<IntValue> internPool = new InternPool<>(key -> new IntValue(key.length()));
+        assertEquals(0, internPool.getEstimatedBytesSaved());
+
+        internPool.intern("abc");
+        internPool.intern("abc");
+        internPool.intern("abc");
+        assertEquals(2 * InternPool.estimateShallowBytes(IntValue.class), internPool.getEstimatedBytesSaved());
+    }
+
+    @Test
+    public void estimateShallowBytes_fields_alignedSumOfHeaderAndFields() {
+        // 12 byte header and a 4 byte int
+        assertEquals(16, InternPool.estimateShallowBytes(IntValue.class));
+        // 12 byte header, a 4 byte int, an 8 byte long and a 4 byte reference, rounded up to 32
+        assertEquals(32, InternPool.estimateShallowBytes(LongAndReferenceValue.class));
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingAdded() {
+        InternPool<String> internPool = new InternPool<>(key -> {
+            throw new IllegalArgumentException(key);
+        });
+        assertThrows(IllegalArgumentException.class, () -> internPool.intern("abc"));
+        assertEquals(0, internPool.size());
+    }
+
+    private static class IntValue {
+        private static final int IGNORED_STATIC_FIELD = 0;
+        private final int value;
+
+        IntValue(int value) {
+            this.value = value;
+        }
+    }
+
+    private static class LongAndReferenceValue extends IntValue {
+        private final long longValue = 0;
+        private final Object reference = null;
+
+        LongAndReferenceValue() {
+            super(0);
+        }
+    }
+}
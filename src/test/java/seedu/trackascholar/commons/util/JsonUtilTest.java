@@ -1,8 +1,11 @@
 package seedu.trackascholar.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +30,28 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_noWhitespace() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(FileUtil.readFromFile(SERIALIZATION_FILE).contains("\n"));
+    }
+
+    @Test
+    public void serializeObjectToJsonFile_serializationFails_fileUnchanged() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IOException.class, () ->
+                JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, new UnserializableTestClass()));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(SERIALIZATION_FILE.resolveSibling(SERIALIZATION_FILE.getFileName() + ".tmp")));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -42,4 +67,11 @@ public class JsonUtilTest {
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+
+    /**
+     * A class that cannot be serialized, as Jackson finds no properties to serialize in its field.
+     */
+    private static class UnserializableTestClass {
+        private final Object value = new Object();
+    }
 }
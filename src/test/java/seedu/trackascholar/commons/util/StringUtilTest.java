@@ -1,10 +1,14 @@
 package seedu.trackascholar.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,42 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase and toFoldedWords --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_consistentWithIgnoreCaseComparisons() {
+        String[] strings = {"", "abc", "ABC", "aBd", "ab", "Ab1", "\u017F", "S", "s", "\u0130", "i", "Zeta", "alpha"};
+        for (String first : strings) {
+            for (String second : strings) {
+                String firstFolded = StringUtil.foldCase(first);
+                String secondFolded = StringUtil.foldCase(second);
+                assertEquals(first.equalsIgnoreCase(second), firstFolded.equals(secondFolded));
+                assertEquals(Integer.signum(first.compareToIgnoreCase(second)),
+                        Integer.signum(firstFolded.compareTo(secondFolded)));
+            }
+        }
+    }
+
+    @Test
+    public void toFoldedWords_validInputs_correctResult() {
+        assertEquals(Collections.emptyList(), StringUtil.toFoldedWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.toFoldedWords(" \t "));
+        assertEquals(Arrays.asList("aaa", "bbb", "ccc"), StringUtil.toFoldedWords("  AAA   bBb\tccc  "));
+    }
+
+    @Test
+    public void containsFoldedWord_validInputs_correctResult() {
+        assertTrue(StringUtil.containsFoldedWord(StringUtil.toFoldedWords("aaa bBb"), "bbb"));
+        assertFalse(StringUtil.containsFoldedWord(StringUtil.toFoldedWords("aaa bBb"), "bb"));
+        assertFalse(StringUtil.containsFoldedWord(StringUtil.toFoldedWords("aaa bBb"), ""));
+        assertEquals(Arrays.asList("abc", "", "a b"), StringUtil.foldKeywords(Arrays.asList(" ABC ", " ", "A B")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -140,4 +180,24 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for toHexString and fromHexString --------------------------------------
+
+    @Test
+    public void toHexString() {
+        assertEquals("", StringUtil.toHexString(new byte[0]));
+        assertEquals("00ff7f80", StringUtil.toHexString(new byte[] {0, -1, 127, -128}));
+        assertThrows(NullPointerException.class, () -> StringUtil.toHexString(null));
+    }
+
+    @Test
+    public void fromHexString() {
+        assertArrayEquals(new byte[0], StringUtil.fromHexString(""));
+        assertArrayEquals(new byte[] {0, -1, 127, -128}, StringUtil.fromHexString("00ff7f80"));
+        assertArrayEquals(new byte[] {-1}, StringUtil.fromHexString("FF"));
+
+        // odd length or non-hexadecimal characters
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.fromHexString("abc"));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.fromHexString("zz"));
+        assertThrows(NullPointerException.class, () -> StringUtil.fromHexString(null));
+    }
 }
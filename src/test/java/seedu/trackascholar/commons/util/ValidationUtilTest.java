@@ -0,0 +1,66 @@
+package seedu.trackascholar.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric('a'));
+        assertTrue(ValidationUtil.isAlphanumeric('Z'));
+        assertTrue(ValidationUtil.isAlphanumeric('0'));
+
+        // non-ASCII letters and digits are not alphanumeric
+        assertFalse(ValidationUtil.isAlphanumeric('\u00e9'));
+        assertFalse(ValidationUtil.isAlphanumeric('\u0663'));
+        assertFalse(ValidationUtil.isAlphanumeric('_'));
+        assertFalse(ValidationUtil.isAlphanumeric(' '));
+    }
+
+    @Test
+    public void isAlphanumericText() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericText(null, " "));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericText("a", null));
+
+        assertFalse(ValidationUtil.isAlphanumericText("", " ")); // empty
+        assertFalse(ValidationUtil.isAlphanumericText(" a", " ")); // starts with another character
+        assertFalse(ValidationUtil.isAlphanumericText("a&b", " ")); // character not allowed
+
+        assertTrue(ValidationUtil.isAlphanumericText("a", ""));
+        assertTrue(ValidationUtil.isAlphanumericText("a b ", " "));
+        assertTrue(ValidationUtil.isAlphanumericText("Arts & Sciences - A", " &-"));
+    }
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 8));
+
+        assertFalse(ValidationUtil.isDigits("1234567", 8)); // too short
+        assertFalse(ValidationUtil.isDigits("123456789", 8)); // too long
+        assertFalse(ValidationUtil.isDigits("1234 567", 8)); // not a digit
+
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertTrue(ValidationUtil.isDigits("12345678", 8));
+    }
+
+    @Test
+    public void isEmail() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isEmail(null, "+_.-"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isEmail("a@bc", null));
+
+        assertFalse(ValidationUtil.isEmail("a.@bc", "+_.-")); // special character at end of local part
+        assertFalse(ValidationUtil.isEmail("a..b@bc", "+_.-")); // consecutive special characters
+        assertFalse(ValidationUtil.isEmail("a@b", "+_.-")); // last domain label too short
+        assertFalse(ValidationUtil.isEmail("a@c-d.e-f", "+_.-")); // no adjacent alphanumerics in last label
+        assertFalse(ValidationUtil.isEmail("a@b..cd", "+_.-")); // empty domain label
+        assertFalse(ValidationUtil.isEmail("a@b@cd", "+_.-")); // more than one '@'
+
+        assertTrue(ValidationUtil.isEmail("a@bc", "+_.-"));
+        assertTrue(ValidationUtil.isEmail("a+b_c.d-e@f-g.hi", "+_.-"));
+        assertTrue(ValidationUtil.isEmail("a@c-d.e-fg", "+_.-"));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.trackascholar.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackascholar.model.Model;
+import seedu.trackascholar.model.ModelManager;
+import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.model.util.SampleDataUtil;
+import seedu.trackascholar.storage.BinaryTrackAScholarStorage;
+import seedu.trackascholar.storage.JsonTrackAScholarStorage;
+import seedu.trackascholar.storage.JsonUserPrefsStorage;
+import seedu.trackascholar.storage.StorageManager;
+import seedu.trackascholar.storage.TrackAScholarStorage;
+
+public class ApplicantLoaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTrackAScholarTest");
+    private static final Path DUPLICATE_APPLICANT_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateApplicantTrackAScholar.json");
+    private static final Path INVALID_APPLICANT_FILE = TEST_DATA_FOLDER.resolve("invalidApplicantTrackAScholar.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final List<String> progress = new ArrayList<>();
+
+    @Test
+    public void load_jsonFile_loadsApplicantsInChunks() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        new JsonTrackAScholarStorage(filePath).saveTrackAScholar(getTypicalTrackAScholar());
+        ApplicantLoader applicantLoader = createLoader(new JsonTrackAScholarStorage(filePath), 3);
+
+        assertTrue(applicantLoader.isLoading());
+        applicantLoader.load();
+
+        assertFalse(applicantLoader.isLoading());
+        assertTrue(applicantLoader.isReadFromDataFile());
+        assertEquals(getTypicalTrackAScholar(), new TrackAScholar(model.getTrackAScholar()));
+        int applicantCount = getTypicalTrackAScholar().getApplicantList().size();
+        assertEquals(applicantCount, applicantLoader.getApplicantCount());
+
+        // one update per chunk of at most 3 applicants, then one when finished
+        assertEquals((applicantCount + 2) / 3 + 1, progress.size());
+        assertEquals("3 false", progress.get(0));
+        assertEquals(applicantCount + " true", progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void load_binaryFile_loadsApplicantsInChunks() throws Exception {
+        BinaryTrackAScholarStorage binaryStorage =
+                new BinaryTrackAScholarStorage(testFolder.resolve("trackAScholar.bin"));
+        binaryStorage.saveTrackAScholar(getTypicalTrackAScholar());
+        ApplicantLoader applicantLoader = createLoader(binaryStorage, 3);
+
+        applicantLoader.load();
+
+        assertFalse(applicantLoader.isLoading());
+        assertEquals(getTypicalTrackAScholar(), new TrackAScholar(model.getTrackAScholar()));
+    }
+
+    @Test
+    public void load_missingFile_loadsSampleApplicants() {
+        ApplicantLoader applicantLoader =
+                createLoader(new JsonTrackAScholarStorage(testFolder.resolve("missing.json")), 3);
+
+        applicantLoader.load();
+
+        assertFalse(applicantLoader.isLoading());
+        assertFalse(applicantLoader.isReadFromDataFile());
+        assertEquals(Arrays.asList(SampleDataUtil.getSampleApplicants()), model.getTrackAScholar().getApplicantList());
+    }
+
+    @Test
+    public void load_duplicateApplicantsInLaterChunk_leavesModelEmpty() {
+        // the duplicate is only found after the first chunk has been added to the model
+        ApplicantLoader applicantLoader = createLoader(new JsonTrackAScholarStorage(DUPLICATE_APPLICANT_FILE), 1);
+
+        applicantLoader.load();
+
+        assertFalse(applicantLoader.isLoading());
+        assertEquals(new TrackAScholar(), new TrackAScholar(model.getTrackAScholar()));
+        assertEquals("1 false", progress.get(0));
+        assertEquals("0 true", progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void load_invalidApplicant_leavesModelEmpty() {
+        ApplicantLoader applicantLoader = createLoader(new JsonTrackAScholarStorage(INVALID_APPLICANT_FILE), 3);
+
+        applicantLoader.load();
+
+        assertFalse(applicantLoader.isLoading());
+        assertFalse(applicantLoader.isReadFromDataFile());
+        assertEquals(new TrackAScholar(), new TrackAScholar(model.getTrackAScholar()));
+        assertEquals(Arrays.asList("0 true"), progress);
+    }
+
+    /**
+     * Returns a loader that adds the applicants of {@code trackAScholarStorage} to {@code model} on the loading
+     * thread itself, recording each update of its progress in {@code progress}.
+     */
+    private ApplicantLoader createLoader(TrackAScholarStorage trackAScholarStorage, int chunkSize) {
+        StorageManager storage = new StorageManager(trackAScholarStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        ApplicantLoader applicantLoader = new ApplicantLoader(model, storage, Runnable::run, chunkSize);
+        applicantLoader.addProgressListener((applicantCount, fractionRead, isFinished) ->
+                progress.add(applicantCount + " " + isFinished));
+        return applicantLoader;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.trackascholar.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.commons.core.Messages.MESSAGE_INVALID_APPLICANT_DISPLAYED_INDEX;
 import static seedu.trackascholar.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.trackascholar.logic.commands.CommandTestUtil.APPLICATION_STATUS_DESC_AMY;
@@ -10,10 +12,14 @@ import static seedu.trackascholar.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.trackascholar.logic.commands.CommandTestUtil.SCHOLARSHIP_DESC_AMY;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
 import static seedu.trackascholar.testutil.TypicalApplicants.AMY;
+import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +28,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.trackascholar.commons.core.GuiSettings;
 import seedu.trackascholar.logic.commands.AddCommand;
 import seedu.trackascholar.logic.commands.CommandResult;
+import seedu.trackascholar.logic.commands.ExitCommand;
 import seedu.trackascholar.logic.commands.ListCommand;
 import seedu.trackascholar.logic.commands.exceptions.CommandException;
 import seedu.trackascholar.logic.parser.exceptions.ParseException;
@@ -92,6 +99,101 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_exitAfterFailedBackgroundSave_throwsCommandException() throws Exception {
+        JsonTrackAScholarStorage trackAScholarStorage =
+                new JsonTrackAScholarIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTrackAScholar.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackAScholarStorage, userPrefsStorage, true));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + SCHOLARSHIP_DESC_AMY + APPLICATION_STATUS_DESC_AMY);
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ExitCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_commandsWithoutChanges_skipsSave() throws Exception {
+        JsonTrackAScholarSaveCountingStub trackAScholarStorage =
+                new JsonTrackAScholarSaveCountingStub(temporaryFolder.resolve("countingTrackAScholar.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackAScholarStorage, userPrefsStorage));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, trackAScholarStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + SCHOLARSHIP_DESC_AMY + APPLICATION_STATUS_DESC_AMY);
+        assertEquals(1, trackAScholarStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, trackAScholarStorage.saveCount);
+    }
+
+    @Test
+    public void execute_unsavedModel_savesOnFirstCommand() throws Exception {
+        JsonTrackAScholarSaveCountingStub trackAScholarStorage =
+                new JsonTrackAScholarSaveCountingStub(temporaryFolder.resolve("unsavedTrackAScholar.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("unsavedUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackAScholarStorage, userPrefsStorage), false);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, trackAScholarStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, trackAScholarStorage.saveCount);
+    }
+
+    @Test
+    public void execute_afterLoadingSampleApplicants_savesOnFirstCommand() throws Exception {
+        JsonTrackAScholarSaveCountingStub trackAScholarStorage =
+                new JsonTrackAScholarSaveCountingStub(temporaryFolder.resolve("missingTrackAScholar.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("missingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackAScholarStorage, userPrefsStorage));
+
+        BlockingQueue<Runnable> publishedChunks = new LinkedBlockingQueue<>();
+        logic.loadApplicantsInBackground(publishedChunks::add);
+        while (logic.isLoading()) {
+            Runnable publishedChunk = publishedChunks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(publishedChunk);
+            publishedChunk.run();
+        }
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, trackAScholarStorage.saveCount);
+    }
+
+    @Test
+    public void execute_whileLoadingApplicants_throwsCommandException() throws Exception {
+        JsonTrackAScholarSaveCountingStub trackAScholarStorage =
+                new JsonTrackAScholarSaveCountingStub(temporaryFolder.resolve("loadingTrackAScholar.json"));
+        trackAScholarStorage.saveTrackAScholar(getTypicalTrackAScholar());
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackAScholarStorage, userPrefsStorage));
+
+        // chunks are only added to the model when the test runs them
+        BlockingQueue<Runnable> publishedChunks = new LinkedBlockingQueue<>();
+        logic.loadApplicantsInBackground(publishedChunks::add);
+        assertTrue(logic.isLoading());
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+
+        while (logic.isLoading()) {
+            Runnable publishedChunk = publishedChunks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(publishedChunk);
+            publishedChunk.run();
+        }
+        assertEquals(getTypicalTrackAScholar(), new TrackAScholar(model.getTrackAScholar()));
+
+        // loaded applicants are not saved again until they change
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, trackAScholarStorage.saveCount);
+    }
+
     @Test
     public void getFilteredApplicantList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredApplicantList().remove(0));
@@ -174,6 +276,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class JsonTrackAScholarSaveCountingStub extends JsonTrackAScholarStorage {
+        private int saveCount = 0;
+
+        private JsonTrackAScholarSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar, Path filePath) throws IOException {
+            saveCount++;
+            super.saveTrackAScholar(trackAScholar, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,11 +19,14 @@ import javafx.collections.ObservableList;
 import seedu.trackascholar.commons.core.GuiSettings;
 import seedu.trackascholar.logic.commands.exceptions.CommandException;
 import seedu.trackascholar.model.Model;
+import seedu.trackascholar.model.ModelTransaction;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.ReadOnlyUserPrefs;
 import seedu.trackascholar.model.TrackAScholar;
 import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.ApplicationStatus;
+import seedu.trackascholar.model.applicant.MergeSummary;
+import seedu.trackascholar.model.applicant.QueryPlan;
 import seedu.trackascholar.testutil.ApplicantBuilder;
 
 public class AddCommandTest {
@@ -128,6 +132,11 @@ public class AddCommandTest {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
         }
 
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
+        }
+
         @Override
         public boolean hasApplicant(Applicant applicant) {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
@@ -143,6 +152,11 @@ public class AddCommandTest {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
         }
 
+        @Override
+        public int countApplicantsByStatus(ApplicationStatus applicationStatus) {
+            throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
+        }
+
         @Override
         public void setApplicant(Applicant target, Applicant editedApplicant) {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
@@ -173,18 +187,28 @@ public class AddCommandTest {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
         }
 
+        @Override
+        public QueryPlan explainFilteredApplicantList(Predicate<Applicant> predicate) {
+            throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
+        }
+
         @Override
         public Applicant findSimilarApplicant(Applicant applicant) {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
         }
 
         @Override
-        public void importWithReplace(ObservableList<Applicant> applicantList) {
+        public MergeSummary importWithReplace(List<Applicant> applicantList) {
+            throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
+        }
+
+        @Override
+        public MergeSummary importWithoutReplace(List<Applicant> applicantList) {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
         }
 
         @Override
-        public void importWithoutReplace(ObservableList<Applicant> applicantList) {
+        public <T, E extends Exception> T batch(ModelTransaction<T, E> transaction) throws E {
             throw new AssertionError(MESSAGE_RESTRICTED_METHOD);
         }
     }
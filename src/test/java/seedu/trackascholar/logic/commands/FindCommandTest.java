@@ -27,6 +27,7 @@ import seedu.trackascholar.model.ModelManager;
 import seedu.trackascholar.model.UserPrefs;
 import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.NameContainsKeywordsPredicate;
+import seedu.trackascholar.model.applicant.QueryPlan;
 import seedu.trackascholar.model.applicant.ScholarshipContainsKeywordsPredicate;
 import seedu.trackascholar.model.major.MajorContainsKeywordsPredicate;
 
@@ -128,6 +129,26 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON), model.getFilteredApplicantList());
     }
 
+    @Test
+    public void execute_explain_showsQueryPlanAndFiltersList() throws Exception {
+        NameContainsKeywordsPredicate namePredicate = prepareNamePredicate("Benson Alice");
+        ScholarshipContainsKeywordsPredicate scholarshipPredicate = prepareScholarshipPredicate("Merit");
+
+        List<Predicate<Applicant>> predicateList = new ArrayList<>();
+        Collections.addAll(predicateList, scholarshipPredicate, namePredicate);
+        Predicate<Applicant> predicate = FindCommandParser.combinePredicateList(predicateList);
+
+        CommandResult result = new FindCommand(predicate, true).execute(model);
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(MESSAGE_APPLICANTS_LISTED_OVERVIEW, 2)));
+        assertTrue(feedback.contains(QueryPlan.MESSAGE_PLAN_HEADER));
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredApplicantList());
+
+        // different explain flag -> returns false
+        assertFalse(new FindCommand(predicate, true).equals(new FindCommand(predicate)));
+        assertTrue(new FindCommand(predicate, true).equals(new FindCommand(predicate, true)));
+    }
+
 
 
     /**
@@ -1,5 +1,6 @@
 package seedu.trackascholar.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -9,17 +10,22 @@ import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackASch
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.logic.commands.exceptions.CommandException;
 import seedu.trackascholar.model.Model;
 import seedu.trackascholar.model.ModelManager;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.UserPrefs;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.MergeSummary;
 import seedu.trackascholar.storage.JsonTrackAScholarStorage;
 
 public class ImportCommandTest {
@@ -59,7 +65,6 @@ public class ImportCommandTest {
 
         JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS);
         ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
 
         Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
@@ -68,7 +73,8 @@ public class ImportCommandTest {
         assert optionalTrackAScholar.isPresent();
         ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
         ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
-        expectedModel.importWithReplace(applicantList);
+        MergeSummary mergeSummary = expectedModel.importWithReplace(applicantList);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary);
 
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
 
@@ -83,7 +89,6 @@ public class ImportCommandTest {
 
         JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS);
         ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
 
         Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
@@ -92,7 +97,8 @@ public class ImportCommandTest {
         assert optionalTrackAScholar.isPresent();
         ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
         ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
-        expectedModel.importWithReplace(applicantList);
+        MergeSummary mergeSummary = expectedModel.importWithReplace(applicantList);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary);
 
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
 
@@ -107,7 +113,6 @@ public class ImportCommandTest {
 
         JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS);
         ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
 
         Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
@@ -116,7 +121,8 @@ public class ImportCommandTest {
         assert optionalTrackAScholar.isPresent();
         ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
         ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
-        expectedModel.importWithReplace(applicantList);
+        MergeSummary mergeSummary = expectedModel.importWithReplace(applicantList);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary);
 
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
 
@@ -133,7 +139,6 @@ public class ImportCommandTest {
 
         JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS);
         ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
 
         Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
@@ -142,7 +147,8 @@ public class ImportCommandTest {
         assert optionalTrackAScholar.isPresent();
         ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
         ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
-        expectedModel.importWithoutReplace(applicantList);
+        MergeSummary mergeSummary = expectedModel.importWithoutReplace(applicantList);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary);
 
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
 
@@ -157,7 +163,6 @@ public class ImportCommandTest {
 
         JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS);
         ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
 
         Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
@@ -166,7 +171,8 @@ public class ImportCommandTest {
         assert optionalTrackAScholar.isPresent();
         ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
         ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
-        expectedModel.importWithoutReplace(applicantList);
+        MergeSummary mergeSummary = expectedModel.importWithoutReplace(applicantList);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary);
 
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
 
@@ -181,7 +187,6 @@ public class ImportCommandTest {
 
         JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(importedFilePath);
 
-        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS);
         ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
 
         Optional<ReadOnlyTrackAScholar> optionalTrackAScholar =
@@ -190,12 +195,89 @@ public class ImportCommandTest {
         assert optionalTrackAScholar.isPresent();
         ReadOnlyTrackAScholar importedTrackAScholar = optionalTrackAScholar.get();
         ObservableList<Applicant> applicantList = importedTrackAScholar.getApplicantList();
-        expectedModel.importWithoutReplace(applicantList);
+        MergeSummary mergeSummary = expectedModel.importWithoutReplace(applicantList);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary);
 
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
 
     }
 
+    @Test
+    public void execute_notJsonFormat_throwsCommandException() {
+        Path importedFilePath = Paths.get("src/test/data/JsonImportCommandTest", "notJsonFormatTrackAScholar.json");
+        ImportCommand importCommand = new ImportCommand(ImportCommand.REPLACE, importedFilePath);
+
+        assertCommandFailure(importCommand, model, ImportCommand.MESSAGE_INVALID_FILE_DATA_FORMAT);
+    }
+
+    @Test
+    public void execute_duplicateApplicantsInFile_throwsCommandException() {
+        Path importedFilePath = Paths.get("src/test/data/JsonSerializableTrackAScholarTest",
+                "duplicateApplicantTrackAScholar.json");
+        ImportCommand importCommand = new ImportCommand(ImportCommand.REPLACE, importedFilePath);
+
+        assertCommandFailure(importCommand, model, ImportCommand.MESSAGE_INVALID_FILE_DATA_FORMAT);
+    }
+
+    @Test
+    public void execute_inChunks_progressReported() throws Exception {
+        Path importedFilePath = Paths.get("src/test/data/JsonImportCommandTest", "newApplicantTrackAScholar.json");
+        ImportCommand importCommand = new ImportCommand(ImportCommand.KEEP, importedFilePath, 1);
+        List<Integer> applicantCounts = new ArrayList<>();
+        List<Double> fractionsRead = new ArrayList<>();
+        importCommand.setProgressListener((applicantCount, fractionRead) -> {
+            applicantCounts.add(applicantCount);
+            fractionsRead.add(fractionRead);
+        });
+
+        ModelManager expectedModel = new ModelManager(model.getTrackAScholar(), new UserPrefs());
+        MergeSummary mergeSummary = expectedModel.importWithoutReplace(new JsonTrackAScholarStorage(importedFilePath)
+                .readTrackAScholar().get().getApplicantList());
+        assertCommandSuccess(importCommand, model, String.format(ImportCommand.MESSAGE_SUCCESS, mergeSummary),
+                expectedModel);
+
+        // one chunk per applicant and an empty chunk at the end, all read once
+        assertEquals(Arrays.asList(1, 2, 2), applicantCounts);
+        assertTrue(fractionsRead.get(0) < fractionsRead.get(2));
+        assertTrue(fractionsRead.get(2) > 0.99);
+    }
+
+    @Test
+    public void execute_cancelledBeforeReading_nothingImported() {
+        Path importedFilePath = Paths.get("src/test/data/JsonImportCommandTest", "newApplicantTrackAScholar.json");
+        ImportCommand importCommand = new ImportCommand(ImportCommand.KEEP, importedFilePath, 1);
+        importCommand.cancel();
+
+        assertCommandFailure(importCommand, model, ImportCommand.MESSAGE_CANCELLED);
+    }
+
+    @Test
+    public void execute_cancelledWhileMerging_nothingImported() {
+        Path importedFilePath = Paths.get("src/test/data/JsonImportCommandTest", "newApplicantTrackAScholar.json");
+        ImportCommand importCommand = new ImportCommand(ImportCommand.KEEP, importedFilePath, 1);
+        importCommand.setProgressListener((applicantCount, fractionRead) -> {
+            if (applicantCount == 2) {
+                importCommand.cancel();
+            }
+        });
+        long modificationCount = model.getModificationCount();
+
+        assertCommandFailure(importCommand, model, ImportCommand.MESSAGE_CANCELLED);
+        assertEquals(modificationCount, model.getModificationCount());
+    }
+
+    @Test
+    public void execute_duplicateApplicantInLaterChunk_nothingImported() {
+        // the duplicate is only read after the first applicant has been merged
+        Path importedFilePath = Paths.get("src/test/data/JsonSerializableTrackAScholarTest",
+                "duplicateApplicantTrackAScholar.json");
+        ImportCommand importCommand = new ImportCommand(ImportCommand.KEEP, importedFilePath, 1);
+        long modificationCount = model.getModificationCount();
+
+        assertCommandFailure(importCommand, model, ImportCommand.MESSAGE_INVALID_FILE_DATA_FORMAT);
+        assertEquals(modificationCount, model.getModificationCount());
+    }
+
     @Test
     public void equals() {
         ImportCommand importReplaceNoPath = new ImportCommand(ImportCommand.REPLACE);
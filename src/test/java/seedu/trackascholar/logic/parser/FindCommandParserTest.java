@@ -82,4 +82,21 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " m/\nComputing \t \nBusiness\t", expectedFindMajorCommand);
     }
 
+    @Test
+    public void parse_explainFlag_returnsExplainCommand() {
+        NameContainsKeywordsPredicate nameKeywordPredicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+
+        assertParseSuccess(parser, " --explain n/Alice Bob", new FindCommand(nameKeywordPredicate, true));
+        assertParseSuccess(parser, " \t--explain \n n/Alice n/Bob ", new FindCommand(nameKeywordPredicate, true));
+
+        // flag without any prefix
+        assertParseFailure(parser, " --explain", ERROR_MESSAGE);
+        assertParseFailure(parser, " --explain Alice", ERROR_MESSAGE);
+
+        // flag after a prefix is treated as a keyword
+        assertParseSuccess(parser, " n/Alice --explain", new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "--explain"))));
+    }
+
 }
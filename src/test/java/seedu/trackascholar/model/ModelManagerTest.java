@@ -2,6 +2,7 @@ package seedu.trackascholar.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.model.Model.PREDICATE_SHOW_ALL_APPLICANTS;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
@@ -11,11 +12,14 @@ import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.trackascholar.commons.core.GuiSettings;
+import seedu.trackascholar.model.applicant.Applicant;
 import seedu.trackascholar.model.applicant.NameContainsKeywordsPredicate;
+import seedu.trackascholar.testutil.ApplicantBuilder;
 import seedu.trackascholar.testutil.TrackAScholarBuilder;
 
 public class ModelManagerTest {
@@ -29,6 +33,31 @@ public class ModelManagerTest {
         assertEquals(new TrackAScholar(), new TrackAScholar(modelManager.getTrackAScholar()));
     }
 
+    @Test
+    public void adopting_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ModelManager.adopting(null, new UserPrefs()));
+        assertThrows(NullPointerException.class, () -> ModelManager.adopting(new TrackAScholar(), null));
+    }
+
+    @Test
+    public void adopting_validTrackAScholar_usesTrackAScholarWithoutCopying() {
+        TrackAScholar trackAScholar = new TrackAScholarBuilder().withApplicant(ALICE).build();
+        UserPrefs userPrefs = new UserPrefs();
+        ModelManager adoptingModelManager = ModelManager.adopting(trackAScholar, userPrefs);
+
+        assertSame(trackAScholar, adoptingModelManager.getTrackAScholar());
+        assertEquals(new ModelManager(trackAScholar, userPrefs), adoptingModelManager);
+
+        // changes to the model are made to the adopted trackAScholar
+        adoptingModelManager.addApplicant(BENSON);
+        assertTrue(trackAScholar.hasApplicant(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), adoptingModelManager.getFilteredApplicantList());
+
+        // userPrefs are still copied
+        userPrefs.setTrackAScholarFilePath(Paths.get("new/trackascholar/book/file/path"));
+        assertEquals(new UserPrefs(), adoptingModelManager.getUserPrefs());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -103,6 +132,51 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getAllApplicants().remove(0));
     }
 
+    @Test
+    public void updateFilteredApplicantList_keywordSearchThenEdit_reflectsEditedApplicant() {
+        modelManager.addApplicant(ALICE);
+        modelManager.addApplicant(BENSON);
+        modelManager.updateFilteredApplicantList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredApplicantList());
+
+        // edited applicant still matching the keywords remains in the filtered list
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withScholarship("Sports").build();
+        modelManager.setApplicant(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredApplicantList());
+
+        // edited applicant no longer matching the keywords is filtered out
+        modelManager.setApplicant(editedAlice, new ApplicantBuilder(ALICE).withName("Carol").build());
+        assertEquals(Collections.emptyList(), modelManager.getFilteredApplicantList());
+    }
+
+    @Test
+    public void batch_completes_changesCommitted() {
+        modelManager.addApplicant(ALICE);
+        String result = modelManager.batch(() -> {
+            modelManager.addApplicant(BENSON);
+            modelManager.deleteApplicant(ALICE);
+            assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredApplicantList());
+            return "result";
+        });
+        assertEquals("result", result);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredApplicantList());
+    }
+
+    @Test
+    public void batch_throwsException_changesRolledBack() {
+        modelManager.addApplicant(ALICE);
+        long modificationCount = modelManager.getModificationCount();
+        assertThrows(IllegalStateException.class, "dummy exception", () -> modelManager.batch(() -> {
+            modelManager.addApplicant(BENSON);
+            modelManager.deleteApplicant(ALICE);
+            throw new IllegalStateException("dummy exception");
+        }));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredApplicantList());
+        assertTrue(modelManager.hasApplicant(ALICE));
+        assertFalse(modelManager.hasApplicant(BENSON));
+        assertEquals(modificationCount, modelManager.getModificationCount());
+    }
+
     @Test
     public void equals() {
         TrackAScholar trackAScholar = new TrackAScholarBuilder().withApplicant(ALICE).withApplicant(BENSON).build();
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.ApplicationStatus;
 import seedu.trackascholar.model.applicant.exceptions.DuplicateApplicantException;
 import seedu.trackascholar.testutil.ApplicantBuilder;
 
@@ -83,6 +84,21 @@ public class TrackAScholarTest {
         assertThrows(UnsupportedOperationException.class, () -> trackAScholar.getApplicantList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_onlyCountsChanges() {
+        trackAScholar.addApplicant(ALICE);
+        long modificationCount = trackAScholar.getModificationCount();
+
+        // nothing to remove -> unchanged
+        trackAScholar.removeApplicants(applicant -> false);
+        trackAScholar.removeApplicantByStatus(new ApplicationStatus(ApplicationStatus.REJECTED));
+        assertEquals(modificationCount, trackAScholar.getModificationCount());
+
+        // applicant removed -> increased
+        trackAScholar.removeApplicantByStatus(ALICE.getApplicationStatus());
+        assertTrue(trackAScholar.getModificationCount() > modificationCount);
+    }
+
     /**
      * A stub ReadOnlyTrackAScholar whose applicants list can violate interface constraints.
      */
@@ -59,5 +59,10 @@ public class UserPrefsTest {
         differentUserPrefs2.setTrackAScholarFilePath(differentPath);
         assertFalse(userPrefs.equals(differentUserPrefs2));
 
+        // different progressive startup -> returns false
+        UserPrefs differentUserPrefs3 = new UserPrefs(userPrefs);
+        differentUserPrefs3.setProgressiveStartup(true);
+        assertFalse(userPrefs.equals(differentUserPrefs3));
+
     }
 }
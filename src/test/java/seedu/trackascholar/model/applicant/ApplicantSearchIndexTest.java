@@ -0,0 +1,82 @@
+package seedu.trackascholar.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
+import static seedu.trackascholar.testutil.TypicalApplicants.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackascholar.model.applicant.ApplicantSearchIndex.Field;
+
+public class ApplicantSearchIndexTest {
+
+    private final ApplicantSearchIndex searchIndex = new ApplicantSearchIndex();
+
+    @Test
+    public void normalize() {
+        assertEquals("alice", ApplicantSearchIndex.normalize("ALiCe"));
+        assertEquals("alice", ApplicantSearchIndex.normalize("  alice \t"));
+        assertEquals(ApplicantSearchIndex.normalize("\u017F"), ApplicantSearchIndex.normalize("S"));
+    }
+
+    @Test
+    public void isSearchableKeyword() {
+        assertFalse(ApplicantSearchIndex.isSearchableKeyword(""));
+        assertFalse(ApplicantSearchIndex.isSearchableKeyword("  "));
+        assertFalse(ApplicantSearchIndex.isSearchableKeyword("alice pauline"));
+        assertTrue(ApplicantSearchIndex.isSearchableKeyword(" alice "));
+    }
+
+    @Test
+    public void getPosting_addedApplicants_returnsApplicantsContainingWord() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        searchIndex.add(CARL);
+
+        // name words
+        assertEquals(Collections.singleton(ALICE), searchIndex.getPosting(Field.NAME, "pauline"));
+
+        // scholarship words are shared between applicants
+        Set<Applicant> meritApplicants = searchIndex.getPosting(Field.SCHOLARSHIP, "merit");
+        assertEquals(2, meritApplicants.size());
+        assertTrue(meritApplicants.containsAll(Arrays.asList(ALICE, BENSON)));
+
+        // words are only indexed under their own field
+        assertTrue(searchIndex.getPosting(Field.MAJOR, "pauline").isEmpty());
+    }
+
+    @Test
+    public void remove_addedApplicant_removesApplicantFromPostings() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        searchIndex.remove(ALICE);
+        assertTrue(searchIndex.getPosting(Field.NAME, "alice").isEmpty());
+        assertEquals(Collections.singleton(BENSON), searchIndex.getPosting(Field.SCHOLARSHIP, "merit"));
+    }
+
+    @Test
+    public void containsAny_indexedApplicant_matchesPredicate() {
+        searchIndex.add(ALICE);
+        searchIndex.add(CARL);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("kurz", "Bob"));
+        assertEquals(predicate.test(CARL), searchIndex.containsAny(Field.NAME, Arrays.asList("kurz", "bob"), CARL));
+        assertEquals(predicate.test(ALICE), searchIndex.containsAny(Field.NAME, Arrays.asList("kurz", "bob"), ALICE));
+    }
+
+    @Test
+    public void findAny_multipleKeywords_returnsUnionOfPostings() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        searchIndex.add(CARL);
+        Set<Applicant> matchingApplicants = searchIndex.findAny(Field.NAME, Arrays.asList("alice", "kurz"));
+        assertEquals(2, matchingApplicants.size());
+        assertTrue(matchingApplicants.containsAll(Arrays.asList(ALICE, CARL)));
+    }
+}
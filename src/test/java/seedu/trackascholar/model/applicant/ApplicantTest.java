@@ -1,5 +1,6 @@
 package seedu.trackascholar.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -131,6 +132,31 @@ public class ApplicantTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getters_compactFields_returnOriginalValues() {
+        Applicant applicant = new ApplicantBuilder().withPhone("00012345").withApplicationStatus("rejected")
+                .build_pinned();
+        assertEquals(new Phone("00012345"), applicant.getPhone());
+        assertEquals("00012345", applicant.getPhoneNumber());
+        assertEquals(12345, applicant.getPhoneValue());
+        assertEquals(new ApplicationStatus("rejected"), applicant.getApplicationStatus());
+        assertEquals(new Pin(true), applicant.getPin());
+        assertTrue(applicant.getHasPinned());
+
+        Applicant unpinnedApplicant = new ApplicantBuilder(applicant).build();
+        assertFalse(unpinnedApplicant.getHasPinned());
+        assertEquals(new ApplicationStatus("rejected"), unpinnedApplicant.getApplicationStatus());
+        assertFalse(applicant.equals(unpinnedApplicant));
+    }
+
+    @Test
+    public void hashCode_equalApplicants_sameHashCode() {
+        Applicant aliceCopy = new ApplicantBuilder(ALICE).build();
+        assertEquals(ALICE, aliceCopy);
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(BENSON.hashCode(), new ApplicantBuilder(BENSON).build_pinned().hashCode());
+    }
+
     @Test
     public void toStringTest() {
         String expectedString = "Benson Meier\n Phone: 98765432\n Email: johnd@example.com\n "
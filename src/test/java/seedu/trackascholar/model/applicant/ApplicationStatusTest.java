@@ -1,6 +1,8 @@
 package seedu.trackascholar.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
 
@@ -36,4 +38,15 @@ public class ApplicationStatusTest {
         assertTrue(ApplicationStatus.isValidApplicationStatus("accepted"));
         assertTrue(ApplicationStatus.isValidApplicationStatus("rejected"));
     }
+
+    @Test
+    public void of() {
+        // invalid application status
+        assertThrows(NullPointerException.class, () -> ApplicationStatus.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.of("done"));
+
+        // same status ignoring case -> same instance
+        assertSame(ApplicationStatus.of("accepted"), ApplicationStatus.of("ACCEPTED"));
+        assertEquals(new ApplicationStatus("Rejected"), ApplicationStatus.of("rejected"));
+    }
 }
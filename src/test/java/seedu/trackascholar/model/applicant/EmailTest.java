@@ -3,6 +3,7 @@ package seedu.trackascholar.model.applicant;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.ValidatorTestUtil.assertSameVerdictsAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +66,10 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
+
+    @Test
+    public void isValidEmail_sameVerdictsAsRegex() {
+        assertSameVerdictsAsRegex(Email::isValidEmail, Email.VALIDATION_REGEX, "aZ9@.-+_ \u00e9\n", 5,
+                "peter.jack+1@example-mail.com.sg", "a@bc", "a1@b-c.de", "x_y@a.b.cd", "a-b@c-d.e-f");
+    }
 }
@@ -1,8 +1,11 @@
 package seedu.trackascholar.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.ValidatorTestUtil.assertSameVerdictsAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +64,19 @@ public class NameTest {
         assertFalse(new Name(secondName).equalsIgnoreCase(new Name(firstNameMixedCase)));
         assertFalse(new Name(firstNameMixedCase).equalsIgnoreCase(new Name(secondNameMixedCase)));
     }
+
+    @Test
+    public void getIdentityKey() {
+        // same name with different case -> same key
+        assertEquals(new Name("peter").getIdentityKey(), new Name("PeTeR").getIdentityKey());
+
+        // different names -> different keys
+        assertNotEquals(new Name("peter").getIdentityKey(), new Name("jack").getIdentityKey());
+    }
+
+    @Test
+    public void isValidName_sameVerdictsAsRegex() {
+        assertSameVerdictsAsRegex(Name::isValidName, Name.VALIDATION_REGEX, "aZ9 _-\u00e9\n\u0663", 5,
+                "Alice Pauline", "R@chel", " Bob");
+    }
 }
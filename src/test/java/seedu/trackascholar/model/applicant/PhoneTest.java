@@ -3,6 +3,7 @@ package seedu.trackascholar.model.applicant;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.ValidatorTestUtil.assertSameVerdictsAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,4 +36,10 @@ public class PhoneTest {
         // valid phone numbers
         assertTrue(Phone.isValidPhone("93121534"));
     }
+
+    @Test
+    public void isValidPhone_sameVerdictsAsRegex() {
+        assertSameVerdictsAsRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX, "09a\u0663", 9,
+                "93121534", "9312 1534");
+    }
 }
@@ -1,8 +1,12 @@
 package seedu.trackascholar.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.ValidatorTestUtil.assertSameVerdictsAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,4 +39,24 @@ public class ScholarshipTest {
         assertTrue(Scholarship.isValidScholarship(
                         "Hong Kong & Shanghai Banking Corporation Centenary Scholarship")); // long scholarship
     }
+
+    @Test
+    public void of() {
+        // invalid scholarship
+        assertThrows(NullPointerException.class, () -> Scholarship.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Scholarship.of(" "));
+
+        // equal scholarships -> same instance
+        assertSame(Scholarship.of("NUS Merit Scholarship"), Scholarship.of("NUS Merit Scholarship"));
+        assertEquals(new Scholarship("NUS Merit Scholarship"), Scholarship.of("NUS Merit Scholarship"));
+
+        // different case -> different instances
+        assertNotSame(Scholarship.of("NUS Merit Scholarship"), Scholarship.of("nus merit scholarship"));
+    }
+
+    @Test
+    public void isValidScholarship_sameVerdictsAsRegex() {
+        assertSameVerdictsAsRegex(Scholarship::isValidScholarship, Scholarship.VALIDATION_REGEX, "aZ9 &-_\u00e9\n", 5,
+                "NUS Merit Scholarship", "Arts & Sciences - A");
+    }
 }
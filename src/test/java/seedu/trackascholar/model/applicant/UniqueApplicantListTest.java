@@ -2,16 +2,21 @@ package seedu.trackascholar.model.applicant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.logic.commands.CommandTestUtil.VALID_MAJOR_COMPUTER_SCIENCE;
 import static seedu.trackascholar.logic.commands.CommandTestUtil.VALID_SCHOLARSHIP_BOB;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
 import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
 import static seedu.trackascholar.testutil.TypicalApplicants.BOB;
+import static seedu.trackascholar.testutil.TypicalApplicants.CARL;
+import static seedu.trackascholar.testutil.TypicalApplicants.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +52,28 @@ public class UniqueApplicantListTest {
         assertTrue(uniqueApplicantList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_applicantRemovedFromList_returnsFalse() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.remove(ALICE);
+        assertFalse(uniqueApplicantList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_applicantReplacedInList_returnsFalse() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.setApplicant(ALICE, BOB);
+        assertFalse(uniqueApplicantList.contains(ALICE));
+        assertTrue(uniqueApplicantList.contains(BOB));
+    }
+
+    @Test
+    public void findSimilarApplicant_applicantWithSameIdentityFieldsInList_returnsApplicantInList() {
+        uniqueApplicantList.add(ALICE);
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withScholarship(VALID_SCHOLARSHIP_BOB).build();
+        assertSame(ALICE, uniqueApplicantList.findSimilarApplicant(editedAlice));
+    }
+
     @Test
     public void add_nullApplicant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.add(null));
@@ -109,6 +136,28 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicateApplicantException.class, () -> uniqueApplicantList.setApplicant(ALICE, BOB));
     }
 
+    @Test
+    public void setApplicant_afterSortAndRemove_replacesCorrectApplicant() {
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.sort(Applicant.sortByName());
+        uniqueApplicantList.remove(ALICE);
+        Applicant editedCarl = new ApplicantBuilder(CARL).withScholarship(VALID_SCHOLARSHIP_BOB).build();
+        uniqueApplicantList.setApplicant(CARL, editedCarl);
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(BOB);
+        expectedUniqueApplicantList.add(editedCarl);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void remove_applicantWithSameIdentityButDifferentFields_throwsApplicantNotFoundException() {
+        uniqueApplicantList.add(ALICE);
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withScholarship(VALID_SCHOLARSHIP_BOB).build();
+        assertThrows(ApplicantNotFoundException.class, () -> uniqueApplicantList.remove(editedAlice));
+    }
+
     @Test
     public void remove_nullApplicant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.remove(null));
@@ -127,6 +176,91 @@ public class UniqueApplicantListTest {
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
     }
 
+    @Test
+    public void removeIf_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueApplicantList.removeIf(null));
+    }
+
+    @Test
+    public void removeIf_matchingApplicants_removesApplicantsAndKeepsOrder() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        assertEquals(2, uniqueApplicantList.removeIf(applicant -> !applicant.isSameApplicant(BOB)));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(BOB);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+
+        // removed applicants can be added again, remaining applicants can still be edited
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.setApplicant(BOB, CARL);
+        expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(CARL);
+        expectedUniqueApplicantList.add(ALICE);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void removeIf_noMatchingApplicants_returnsZero() {
+        uniqueApplicantList.add(ALICE);
+        assertEquals(0, uniqueApplicantList.removeIf(applicant -> false));
+        assertTrue(uniqueApplicantList.contains(ALICE));
+    }
+
+    @Test
+    public void removeIf_predicateThrows_listAndIndexesUnchanged() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.add(CARL);
+        int aliceStatusCount = uniqueApplicantList.countByStatus(ALICE.getApplicationStatus());
+        assertThrows(IllegalStateException.class, () -> uniqueApplicantList.removeIf(applicant -> {
+            if (applicant.isSameApplicant(CARL)) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueApplicantList.asUnmodifiableObservableList());
+        assertTrue(uniqueApplicantList.contains(ALICE));
+        assertEquals(aliceStatusCount, uniqueApplicantList.countByStatus(ALICE.getApplicationStatus()));
+        uniqueApplicantList.remove(ALICE);
+        uniqueApplicantList.setApplicant(BOB, DANIEL);
+        assertEquals(Arrays.asList(DANIEL, CARL), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeByStatus_matchingApplicants_removesOnlyMatchingApplicants() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        uniqueApplicantList.add(DANIEL);
+        uniqueApplicantList.removeByStatus(new ApplicationStatus(ApplicationStatus.ACCEPTED));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        expectedUniqueApplicantList.add(DANIEL);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void countByStatus_afterMutations_returnsLiveCounts() {
+        ApplicationStatus pending = new ApplicationStatus(ApplicationStatus.PENDING);
+        ApplicationStatus accepted = new ApplicationStatus(ApplicationStatus.ACCEPTED);
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.add(BENSON);
+        assertEquals(2, uniqueApplicantList.countByStatus(pending));
+        assertEquals(1, uniqueApplicantList.countByStatus(accepted));
+
+        Applicant acceptedAlice = new ApplicantBuilder(ALICE).withApplicationStatus(ApplicationStatus.ACCEPTED).build();
+        uniqueApplicantList.setApplicant(ALICE, acceptedAlice);
+        assertEquals(1, uniqueApplicantList.countByStatus(pending));
+        assertEquals(2, uniqueApplicantList.countByStatus(accepted));
+
+        uniqueApplicantList.removeByStatus(accepted);
+        uniqueApplicantList.remove(CARL);
+        assertEquals(0, uniqueApplicantList.countByStatus(pending));
+        assertEquals(0, uniqueApplicantList.countByStatus(accepted));
+    }
+
     @Test
     public void setApplicants_nullUniqueApplicantList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.setApplicants((UniqueApplicantList) null));
@@ -163,9 +297,155 @@ public class UniqueApplicantListTest {
                 uniqueApplicantList.setApplicants(listWithDuplicateApplicants));
     }
 
+    @Test
+    public void setApplicants_listWithMultipleDuplicateGroups_reportsEveryGroup() {
+        Applicant upperCaseBob = new ApplicantBuilder(BOB).withName(BOB.getFullName().toUpperCase()).build();
+        List<Applicant> listWithDuplicateApplicants = Arrays.asList(ALICE, BOB, ALICE, upperCaseBob, ALICE);
+        String expectedMessage = new DuplicateApplicantException(Arrays.asList(ALICE.getName(), BOB.getName()))
+                .getMessage();
+        assertThrows(DuplicateApplicantException.class, expectedMessage, () ->
+                uniqueApplicantList.setApplicants(listWithDuplicateApplicants));
+    }
+
+    @Test
+    public void planQuery_keywordClauses_mostSelectiveClauseDrivesSearch() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        Predicate<Applicant> scholarshipPredicate =
+                new ScholarshipContainsKeywordsPredicate(Arrays.asList("Merit", "Sports"));
+        Predicate<Applicant> namePredicate = new NameContainsKeywordsPredicate(Collections.singletonList("Carl"));
+        Predicate<Applicant> customPredicate = applicant -> applicant.getPin() != null;
+
+        QueryPlan queryPlan = uniqueApplicantList.planQuery(
+                new AllMatchPredicate(Arrays.asList(customPredicate, scholarshipPredicate, namePredicate)));
+        List<QueryPlan.Step> steps = queryPlan.getSteps();
+        assertEquals(3, steps.size());
+        assertEquals(QueryPlan.Operation.INDEX_LOOKUP, steps.get(0).getOperation());
+        assertEquals(1, steps.get(0).getEstimatedRows());
+        assertTrue(steps.get(0).getClause().startsWith("name"));
+        assertEquals(QueryPlan.Operation.FILTER, steps.get(1).getOperation());
+        assertTrue(steps.get(1).getClause().startsWith("scholarship"));
+        assertEquals(QueryPlan.Operation.FILTER, steps.get(2).getOperation());
+        assertFalse(steps.get(0).isExecuted());
+
+        assertTrue(queryPlan.getPredicate().test(CARL));
+        assertFalse(queryPlan.getPredicate().test(ALICE));
+    }
+
+    @Test
+    public void planQuery_customPredicate_scansEveryApplicant() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON));
+        QueryPlan queryPlan = uniqueApplicantList.planQuery(applicant -> true);
+        assertEquals(2, queryPlan.getSteps().size());
+        assertEquals(QueryPlan.Operation.FULL_SCAN, queryPlan.getSteps().get(0).getOperation());
+        assertEquals(2, queryPlan.getSteps().get(0).getEstimatedRows());
+    }
+
+    @Test
+    public void explainQuery_keywordClauses_recordsActualRows() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        Predicate<Applicant> scholarshipPredicate =
+                new ScholarshipContainsKeywordsPredicate(Collections.singletonList("Merit"));
+        Predicate<Applicant> namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Carl"));
+
+        QueryPlan queryPlan = uniqueApplicantList.explainQuery(
+                new AllMatchPredicate(Arrays.asList(namePredicate, scholarshipPredicate)));
+        List<QueryPlan.Step> steps = queryPlan.getSteps();
+        assertEquals(2, steps.size());
+        assertEquals(2, steps.get(0).getActualRows());
+        assertEquals(1, steps.get(1).getActualRows());
+        assertTrue(queryPlan.toExplanation().startsWith(QueryPlan.MESSAGE_PLAN_HEADER));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueApplicantList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void merge_replacing_matchesApplicantByApplicantImport() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON, CARL));
+        Applicant editedBenson = new ApplicantBuilder(BENSON).withScholarship(VALID_SCHOLARSHIP_BOB).build();
+        Applicant editedBob = new ApplicantBuilder(BOB).withPhone("91234567").build();
+        List<Applicant> importedApplicants = Arrays.asList(DANIEL, editedBenson, ALICE, BOB, editedBob);
+
+        MergeSummary mergeSummary = uniqueApplicantList.merge(importedApplicants, true);
+
+        UniqueApplicantList expectedList = new UniqueApplicantList();
+        expectedList.setApplicants(Arrays.asList(ALICE, BENSON, CARL));
+        for (Applicant applicant : importedApplicants) {
+            if (expectedList.contains(applicant)) {
+                expectedList.setApplicant(expectedList.findSimilarApplicant(applicant), applicant);
+            } else {
+                expectedList.add(applicant);
+            }
+        }
+        assertEquals(expectedList, uniqueApplicantList);
+        assertEquals(new MergeSummary(2, 2, 1), mergeSummary);
+        assertSame(editedBob, uniqueApplicantList.findSimilarApplicant(BOB));
+    }
+
+    @Test
+    public void merge_keeping_existingApplicantsKept() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON));
+        Applicant editedBenson = new ApplicantBuilder(BENSON).withScholarship(VALID_SCHOLARSHIP_BOB).build();
+
+        MergeSummary mergeSummary = uniqueApplicantList.merge(Arrays.asList(editedBenson, CARL, CARL), false);
+
+        UniqueApplicantList expectedList = new UniqueApplicantList();
+        expectedList.setApplicants(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(expectedList, uniqueApplicantList);
+        assertEquals(new MergeSummary(1, 0, 2), mergeSummary);
+
+        // positions stay in sync, so later removals find the merged applicants
+        uniqueApplicantList.remove(CARL);
+        uniqueApplicantList.remove(ALICE);
+        assertEquals(Collections.singletonList(BENSON), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void commitBatch_changesPublishedOnCommit() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON));
+        uniqueApplicantList.beginBatch();
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.remove(ALICE);
+
+        // the observable list is unchanged until the batch is committed, but the indexes are up to date
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueApplicantList.asUnmodifiableObservableList());
+        assertTrue(uniqueApplicantList.contains(CARL));
+        assertFalse(uniqueApplicantList.contains(ALICE));
+
+        // nested batches are part of the outer batch
+        uniqueApplicantList.beginBatch();
+        uniqueApplicantList.add(DANIEL);
+        uniqueApplicantList.commitBatch();
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueApplicantList.asUnmodifiableObservableList());
+
+        uniqueApplicantList.commitBatch();
+        assertFalse(uniqueApplicantList.isInBatch());
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), uniqueApplicantList.asUnmodifiableObservableList());
+        uniqueApplicantList.remove(CARL);
+        assertEquals(Arrays.asList(BENSON, DANIEL), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollbackBatch_changesDiscarded() {
+        uniqueApplicantList.setApplicants(Arrays.asList(ALICE, BENSON));
+        Applicant editedBenson = new ApplicantBuilder(BENSON).withScholarship(VALID_SCHOLARSHIP_BOB).build();
+        uniqueApplicantList.beginBatch();
+        uniqueApplicantList.setApplicant(BENSON, editedBenson);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.removeByStatus(ALICE.getApplicationStatus());
+        uniqueApplicantList.rollbackBatch();
+
+        assertFalse(uniqueApplicantList.isInBatch());
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueApplicantList.asUnmodifiableObservableList());
+        assertFalse(uniqueApplicantList.contains(CARL));
+        assertSame(BENSON, uniqueApplicantList.findSimilarApplicant(BENSON));
+        assertEquals(1, uniqueApplicantList.countByStatus(ALICE.getApplicationStatus()));
+
+        // the restored indexes keep working
+        uniqueApplicantList.remove(ALICE);
+        assertEquals(Collections.singletonList(BENSON), uniqueApplicantList.asUnmodifiableObservableList());
+    }
 }
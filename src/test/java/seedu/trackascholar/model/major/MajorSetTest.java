@@ -0,0 +1,78 @@
+package seedu.trackascholar.model.major;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class MajorSetTest {
+
+    private static final Major MATHEMATICS = new Major("Mathematics");
+    private static final Major PHYSICS = new Major("Physics");
+    private static final Major CHEMISTRY = new Major("Chemistry");
+
+    @Test
+    public void copyOf_nullMajors_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MajorSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> MajorSet.copyOf(Arrays.asList(MATHEMATICS, null)));
+    }
+
+    @Test
+    public void copyOf_atMostTwoMajors_equalToHashSet() {
+        List<List<Major>> inputs = Arrays.asList(Collections.emptyList(), Arrays.asList(MATHEMATICS),
+                Arrays.asList(MATHEMATICS, PHYSICS), Arrays.asList(MATHEMATICS, new Major("Mathematics"), PHYSICS));
+        for (List<Major> input : inputs) {
+            Set<Major> expected = new HashSet<>(input);
+            Set<Major> majorSet = MajorSet.copyOf(input);
+            assertTrue(majorSet instanceof MajorSet);
+            assertEquals(expected, majorSet);
+            assertEquals(majorSet, expected);
+            assertEquals(expected.hashCode(), majorSet.hashCode());
+            assertEquals(expected.size(), majorSet.size());
+        }
+    }
+
+    @Test
+    public void copyOf_moreThanTwoMajors_equalToHashSet() {
+        List<Major> input = Arrays.asList(MATHEMATICS, PHYSICS, CHEMISTRY);
+        assertEquals(new HashSet<>(input), MajorSet.copyOf(input));
+    }
+
+    @Test
+    public void copyOf_majorSet_returnsSameSet() {
+        Set<Major> majorSet = MajorSet.copyOf(Arrays.asList(MATHEMATICS, PHYSICS));
+        assertSame(majorSet, MajorSet.copyOf(majorSet));
+    }
+
+    @Test
+    public void iterator_returnsMajorsInGivenOrder() {
+        List<Major> majors = new ArrayList<>(MajorSet.copyOf(Arrays.asList(PHYSICS, MATHEMATICS)));
+        assertEquals(Arrays.asList(PHYSICS, MATHEMATICS), majors);
+    }
+
+    @Test
+    public void contains() {
+        Set<Major> majorSet = MajorSet.copyOf(Arrays.asList(MATHEMATICS));
+        assertTrue(majorSet.contains(new Major("Mathematics")));
+        assertFalse(majorSet.contains(PHYSICS));
+        assertFalse(majorSet.contains(null));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<Major> majorSet = MajorSet.copyOf(Arrays.asList(MATHEMATICS));
+        assertThrows(UnsupportedOperationException.class, () -> majorSet.add(PHYSICS));
+        assertThrows(UnsupportedOperationException.class, () -> majorSet.remove(PHYSICS));
+        assertThrows(UnsupportedOperationException.class, () -> majorSet.clear());
+    }
+}
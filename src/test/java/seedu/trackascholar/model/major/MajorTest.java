@@ -1,8 +1,10 @@
 package seedu.trackascholar.model.major;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.ValidatorTestUtil.assertSameVerdictsAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,4 +50,17 @@ public class MajorTest {
         assertFalse(new Major(secondMajor).isSameMajor(new Major(firstMajorMixedCase)));
         assertFalse(new Major(firstMajorMixedCase).isSameMajor(new Major(secondMajorMixedCase)));
     }
+
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Major.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Major.of("Computer Science!"));
+        assertSame(Major.of("Computer Science"), Major.of("Computer Science"));
+    }
+
+    @Test
+    public void isValidMajor_sameVerdictsAsRegex() {
+        assertSameVerdictsAsRegex(Major::isValidMajor, Major.VALIDATION_REGEX, "aZ9 _-\u00e9\n\u0663", 5,
+                "Computer Science", "#mathematics");
+    }
 }
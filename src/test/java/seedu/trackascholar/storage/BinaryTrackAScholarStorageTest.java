@@ -0,0 +1,189 @@
+package seedu.trackascholar.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.HOON;
+import static seedu.trackascholar.testutil.TypicalApplicants.IDA;
+import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.commons.util.FileUtil;
+import seedu.trackascholar.model.ReadOnlyTrackAScholar;
+import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.model.applicant.Name;
+import seedu.trackascholar.testutil.TrackAScholarBuilder;
+
+public class BinaryTrackAScholarStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSnapshotPath() {
+        assertEquals(Paths.get("data", "trackAScholar.bin"),
+                BinaryTrackAScholarStorage.getSnapshotPath(Paths.get("data", "trackAScholar.json")));
+        assertEquals(Paths.get("data", "trackAScholar.bin"),
+                BinaryTrackAScholarStorage.getSnapshotPath(Paths.get("data", "trackAScholar")));
+    }
+
+    @Test
+    public void readTrackAScholar_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTrackAScholarStorage(testFolder.resolve("a.bin")).readTrackAScholar(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTrackAScholarStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readTrackAScholar().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTrackAScholar_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackAScholar.bin");
+        TrackAScholar original = getTypicalTrackAScholar();
+        BinaryTrackAScholarStorage binaryTrackAScholarStorage = new BinaryTrackAScholarStorage(filePath);
+
+        // Save in new file and read back
+        binaryTrackAScholarStorage.saveTrackAScholar(original, filePath);
+        ReadOnlyTrackAScholar readBack = binaryTrackAScholarStorage.readTrackAScholar(filePath).get();
+        assertEquals(original, new TrackAScholar(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addApplicant(HOON);
+        original.removeApplicant(ALICE);
+        binaryTrackAScholarStorage.saveTrackAScholar(original, filePath);
+        readBack = binaryTrackAScholarStorage.readTrackAScholar(filePath).get();
+        assertEquals(original, new TrackAScholar(readBack));
+
+        // Save and read without specifying file path
+        original.addApplicant(IDA);
+        binaryTrackAScholarStorage.saveTrackAScholar(original);
+        readBack = binaryTrackAScholarStorage.readTrackAScholar().get();
+        assertEquals(original, new TrackAScholar(readBack));
+        assertFalse(Files.exists(testFolder.resolve("TempTrackAScholar.bin.tmp")));
+    }
+
+    @Test
+    public void readAndSaveTrackAScholar_emptyTrackAScholar_success() throws Exception {
+        BinaryTrackAScholarStorage storage = new BinaryTrackAScholarStorage(testFolder.resolve("Empty.bin"));
+        storage.saveTrackAScholar(new TrackAScholar());
+        assertEquals(new TrackAScholar(), new TrackAScholar(storage.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void saveTrackAScholar_repeatedValues_writtenOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackAScholar.bin");
+        TrackAScholar original = getTypicalTrackAScholar();
+        new BinaryTrackAScholarStorage(filePath).saveTrackAScholar(original);
+
+        String scholarship = original.getApplicantList().get(0).getScholarshipName();
+        long sharingCount = original.getApplicantList().stream()
+                .filter(applicant -> applicant.getScholarshipName().equals(scholarship)).count();
+        assertTrue(sharingCount > 1);
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        assertEquals(contents.indexOf(scholarship), contents.lastIndexOf(scholarship));
+    }
+
+    @Test
+    public void readTrackAScholar_notSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("NotSnapshot.bin");
+        Files.write(filePath, "{ \"applicants\": [] }".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new BinaryTrackAScholarStorage(filePath).readTrackAScholar());
+    }
+
+    @Test
+    public void readTrackAScholar_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = saveTypicalTrackAScholar();
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(4, BinaryTrackAScholarStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryTrackAScholarStorage(filePath).readTrackAScholar());
+    }
+
+    @Test
+    public void readTrackAScholar_corruptedPayload_throwsDataConversionException() throws Exception {
+        Path filePath = saveTypicalTrackAScholar();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryTrackAScholarStorage(filePath).readTrackAScholar());
+    }
+
+    @Test
+    public void readTrackAScholar_truncated_throwsDataConversionException() throws Exception {
+        Path filePath = saveTypicalTrackAScholar();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> new BinaryTrackAScholarStorage(filePath).readTrackAScholar());
+    }
+
+    @Test
+    public void readSnapshot_invalidApplicant_throwsIllegalValueException() throws Exception {
+        Path filePath = saveTypicalTrackAScholar();
+        byte[] bytes = Files.readAllBytes(filePath);
+        String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+        bytes[contents.indexOf(ALICE.getFullName())] = '*';
+        updateChecksum(bytes);
+
+        String expectedMessage = String.format(BinaryTrackAScholarStorage.MESSAGE_INVALID_APPLICANT, 1,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                BinaryTrackAScholarStorage.readSnapshot(ByteBuffer.wrap(bytes)));
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryTrackAScholarStorage(filePath).readTrackAScholar());
+    }
+
+    @Test
+    public void readTrackAScholar_largerThanMappedReadThreshold_success() throws Exception {
+        Path filePath = testFolder.resolve("LargeTrackAScholar.bin");
+        TrackAScholar original = new TrackAScholarBuilder().withGeneratedApplicants(30000).build();
+        BinaryTrackAScholarStorage storage = new BinaryTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        assertTrue(Files.size(filePath) >= FileUtil.MAPPED_READ_THRESHOLD);
+        assertEquals(original, new TrackAScholar(storage.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void saveTrackAScholar_nullTrackAScholar_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTrackAScholarStorage(testFolder.resolve("a.bin")).saveTrackAScholar(null));
+    }
+
+    @Test
+    public void saveTrackAScholar_nullFilePath_throwsNullPointerException() {
+        BinaryTrackAScholarStorage storage = new BinaryTrackAScholarStorage(testFolder.resolve("a.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveTrackAScholar(new TrackAScholar(), null));
+    }
+
+    private Path saveTypicalTrackAScholar() throws Exception {
+        Path filePath = testFolder.resolve("TypicalTrackAScholar.bin");
+        new BinaryTrackAScholarStorage(filePath).saveTrackAScholar(getTypicalTrackAScholar());
+        return filePath;
+    }
+
+    /**
+     * Replaces the checksum in the header of the snapshot in {@code bytes} with the checksum of its payload.
+     */
+    private static void updateChecksum(byte[] bytes) {
+        int headerSize = BinaryTrackAScholarStorage.HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, headerSize, bytes.length - headerSize);
+        ByteBuffer.wrap(bytes).putInt(headerSize - Integer.BYTES, (int) crc.getValue());
+    }
+}
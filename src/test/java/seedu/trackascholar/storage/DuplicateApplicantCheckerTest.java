@@ -0,0 +1,44 @@
+package seedu.trackascholar.storage;
+
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
+import static seedu.trackascholar.testutil.TypicalApplicants.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.testutil.ApplicantBuilder;
+
+public class DuplicateApplicantCheckerTest {
+
+    private final DuplicateApplicantChecker duplicateApplicantChecker = new DuplicateApplicantChecker();
+
+    @Test
+    public void check_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> duplicateApplicantChecker.check(null));
+    }
+
+    @Test
+    public void check_distinctApplicants_success() throws Exception {
+        duplicateApplicantChecker.check(Arrays.asList(ALICE, BENSON));
+        duplicateApplicantChecker.check(Collections.emptyList());
+        duplicateApplicantChecker.check(Collections.singletonList(CARL));
+    }
+
+    @Test
+    public void check_duplicateInSameChunk_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> duplicateApplicantChecker.check(Arrays.asList(ALICE,
+                new ApplicantBuilder(ALICE).withPhone("99999999").build())));
+    }
+
+    @Test
+    public void check_duplicateInLaterChunk_throwsDataConversionException() throws Exception {
+        duplicateApplicantChecker.check(Arrays.asList(ALICE, BENSON));
+        assertThrows(DataConversionException.class, () ->
+                duplicateApplicantChecker.check(Collections.singletonList(BENSON)));
+    }
+}
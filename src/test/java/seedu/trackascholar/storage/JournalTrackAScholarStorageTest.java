@@ -0,0 +1,230 @@
+package seedu.trackascholar.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
+import static seedu.trackascholar.testutil.TypicalApplicants.HOON;
+import static seedu.trackascholar.testutil.TypicalApplicants.IDA;
+import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.testutil.ApplicantBuilder;
+
+public class JournalTrackAScholarStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalTrackAScholarStorage(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readTrackAScholar().isPresent());
+    }
+
+    @Test
+    public void readAndSave_changesAppendedToJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        Path journalPath = JournalTrackAScholarStorage.getJournalPath(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+
+        // first save writes a snapshot
+        storage.saveTrackAScholar(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new TrackAScholar(new JournalTrackAScholarStorage(filePath).readTrackAScholar().get()));
+
+        // later saves append to the journal only
+        String snapshot = Files.readString(filePath);
+        original.addApplicant(HOON);
+        original.removeApplicant(ALICE);
+        original.setApplicant(BENSON, new ApplicantBuilder(BENSON).withPhone("99999999").build());
+        storage.saveTrackAScholar(original);
+        original.addApplicant(IDA);
+        original.sortApplicants((first, second) -> second.getFullName().compareTo(first.getFullName()));
+        storage.saveTrackAScholar(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new TrackAScholar(new JournalTrackAScholarStorage(filePath).readTrackAScholar().get()));
+    }
+
+    @Test
+    public void save_unchangedData_journalNotCreated() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        storage.saveTrackAScholar(original);
+        assertFalse(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void save_journalFull_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        Path journalPath = JournalTrackAScholarStorage.getJournalPath(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath, 1, Duration.ofDays(1),
+                Clock.systemUTC());
+
+        storage.saveTrackAScholar(original);
+        original.addApplicant(HOON);
+        storage.saveTrackAScholar(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addApplicant(IDA);
+        storage.saveTrackAScholar(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new TrackAScholar(new JsonTrackAScholarStorage(filePath).readTrackAScholar().get()));
+    }
+
+    @Test
+    public void save_journalOlderThanLimitAfterRestart_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        Path journalPath = JournalTrackAScholarStorage.getJournalPath(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        Clock anHourAgo = Clock.offset(Clock.systemUTC(), Duration.ofHours(-1));
+        JournalTrackAScholarStorage storage =
+                new JournalTrackAScholarStorage(filePath, Long.MAX_VALUE, Duration.ofMinutes(30), anHourAgo);
+        storage.saveTrackAScholar(original);
+        original.addApplicant(HOON);
+        storage.saveTrackAScholar(original);
+        assertTrue(Files.exists(journalPath));
+
+        // the journal was last appended to just now, but was created an hour ago
+        JournalTrackAScholarStorage restartedStorage = new JournalTrackAScholarStorage(filePath, Long.MAX_VALUE,
+                Duration.ofMinutes(30), Clock.systemUTC());
+        TrackAScholar restarted = new TrackAScholar(restartedStorage.readTrackAScholar().get());
+        restarted.addApplicant(IDA);
+        restartedStorage.saveTrackAScholar(restarted);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(restarted, new TrackAScholar(new JsonTrackAScholarStorage(filePath).readTrackAScholar().get()));
+    }
+
+    @Test
+    public void compactJournal_journalPresent_journalReplayedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        original.addApplicant(HOON);
+        storage.saveTrackAScholar(original);
+
+        JournalTrackAScholarStorage restartedStorage = new JournalTrackAScholarStorage(filePath);
+        assertTrue(restartedStorage.compactJournal());
+        assertFalse(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+        assertEquals(original, new TrackAScholar(new JsonTrackAScholarStorage(filePath).readTrackAScholar().get()));
+
+        // later saves append to a new journal
+        original.addApplicant(IDA);
+        restartedStorage.saveTrackAScholar(original);
+        assertTrue(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+        assertEquals(original, new TrackAScholar(new JournalTrackAScholarStorage(filePath).readTrackAScholar().get()));
+    }
+
+    @Test
+    public void compactJournal_noJournal_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+        assertFalse(storage.compactJournal());
+
+        storage.saveTrackAScholar(getTypicalTrackAScholar());
+        String snapshot = Files.readString(filePath);
+        assertFalse(storage.compactJournal());
+        assertEquals(snapshot, Files.readString(filePath));
+    }
+
+    @Test
+    public void read_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        Path journalPath = JournalTrackAScholarStorage.getJournalPath(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        original.addApplicant(HOON);
+        storage.saveTrackAScholar(original);
+
+        // the snapshot is replaced behind the back of the journal
+        TrackAScholar replacement = getTypicalTrackAScholar();
+        replacement.removeApplicant(ALICE);
+        new JsonTrackAScholarStorage(filePath).saveTrackAScholar(replacement);
+
+        assertEquals(replacement, new TrackAScholar(storage.readTrackAScholar().get()));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void read_journalOfSnapshotWithSameSizeAndTime_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        Path journalPath = JournalTrackAScholarStorage.getJournalPath(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        original.addApplicant(HOON);
+        storage.saveTrackAScholar(original);
+        long snapshotSize = Files.size(filePath);
+        FileTime snapshotLastModified = Files.getLastModifiedTime(filePath);
+
+        // as if the app stopped after a new snapshot was moved in but before its stale journal was removed
+        Files.writeString(filePath, Files.readString(filePath).replace(BENSON.getPhoneNumber(), "11111111"));
+        Files.setLastModifiedTime(filePath, snapshotLastModified);
+        assertEquals(snapshotSize, Files.size(filePath));
+        TrackAScholar replacement = new TrackAScholar(new JsonTrackAScholarStorage(filePath).readTrackAScholar().get());
+
+        assertEquals(replacement, new TrackAScholar(storage.readTrackAScholar().get()));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("trackAScholar.json");
+        Path journalPath = JournalTrackAScholarStorage.getJournalPath(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        JournalTrackAScholarStorage storage = new JournalTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        original.addApplicant(HOON);
+        storage.saveTrackAScholar(original);
+        long completeJournalSize = Files.size(journalPath);
+        Files.write(journalPath, "{\"type\":\"ADD\",\"appl".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new TrackAScholar(storage.readTrackAScholar().get()));
+        assertEquals(completeJournalSize, Files.size(journalPath));
+
+        // the repaired journal can be appended to
+        original.addApplicant(IDA);
+        storage.saveTrackAScholar(original);
+        assertEquals(original, new TrackAScholar(new JournalTrackAScholarStorage(filePath).readTrackAScholar().get()));
+    }
+
+    @Test
+    public void toJournalRecords_appendAndRemove_noReordering() {
+        List<Applicant> oldApplicants = Arrays.asList(ALICE, BENSON, HOON);
+        List<Applicant> newApplicants = Arrays.asList(ALICE, HOON, IDA);
+        List<JsonAdaptedJournalRecord> records =
+                JournalTrackAScholarStorage.toJournalRecords(oldApplicants, newApplicants);
+        assertEquals(2, records.size());
+    }
+}
@@ -152,4 +152,25 @@ public class JsonAdaptedApplicantTest {
         assertThrows(IllegalValueException.class, applicant::toModelType);
     }
 
+    @Test
+    public void toTrustedModelType_validApplicantDetails_returnsApplicant() throws Exception {
+        JsonAdaptedApplicant applicant = new JsonAdaptedApplicant(ALICE);
+        assertEquals(ALICE, applicant.toTrustedModelType());
+    }
+
+    @Test
+    public void toTrustedModelType_invalidName_notValidated() throws Exception {
+        JsonAdaptedApplicant applicant = new JsonAdaptedApplicant(INVALID_NAME,
+                VALID_PHONE, VALID_EMAIL, VALID_SCHOLARSHIP, VALID_APPLICATION_STATUS, VALID_MAJORS, VALID_HAS_PINNED);
+        assertEquals(INVALID_NAME, applicant.toTrustedModelType().getFullName());
+    }
+
+    @Test
+    public void toTrustedModelType_nullEmail_throwsIllegalValueException() {
+        JsonAdaptedApplicant applicant = new JsonAdaptedApplicant(VALID_NAME, VALID_PHONE, null,
+                VALID_SCHOLARSHIP, VALID_APPLICATION_STATUS, VALID_MAJORS, VALID_HAS_PINNED);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, applicant::toTrustedModelType);
+    }
+
 }
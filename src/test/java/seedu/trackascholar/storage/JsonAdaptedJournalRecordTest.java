@@ -0,0 +1,69 @@
+package seedu.trackascholar.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
+import static seedu.trackascholar.testutil.TypicalApplicants.CARL;
+import static seedu.trackascholar.testutil.TypicalApplicants.DANIEL;
+import static seedu.trackascholar.testutil.TypicalApplicants.ELLE;
+import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalApplicants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.model.applicant.Applicant;
+
+public class JsonAdaptedJournalRecordTest {
+
+    private final List<Applicant> applicants =
+            new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+    @Test
+    public void applyTo_removeAscendingIndices_removesApplicants() throws Exception {
+        JsonAdaptedJournalRecord.remove(Arrays.asList(0, 2, 4)).applyTo(applicants);
+        assertEquals(Arrays.asList(BENSON, DANIEL), applicants);
+    }
+
+    @Test
+    public void applyTo_removeAllIndices_removesAllApplicants() throws Exception {
+        List<Applicant> typicalApplicants = new ArrayList<>(getTypicalApplicants());
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < typicalApplicants.size(); i++) {
+            indices.add(i);
+        }
+        JsonAdaptedJournalRecord.remove(indices).applyTo(typicalApplicants);
+        assertEquals(Collections.emptyList(), typicalApplicants);
+    }
+
+    @Test
+    public void applyTo_removeNoIndices_leavesApplicants() throws Exception {
+        JsonAdaptedJournalRecord.remove(Collections.emptyList()).applyTo(applicants);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), applicants);
+    }
+
+    @Test
+    public void applyTo_removeUnorderedIndices_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonAdaptedJournalRecord.remove(Arrays.asList(1, 3, 2)).applyTo(applicants));
+        assertThrows(IllegalValueException.class, () ->
+                JsonAdaptedJournalRecord.remove(Arrays.asList(1, 1)).applyTo(applicants));
+
+        // nothing is removed from a record that does not fit
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), applicants);
+    }
+
+    @Test
+    public void applyTo_removeIndexOutOfRange_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonAdaptedJournalRecord.remove(Arrays.asList(0, 5)).applyTo(applicants));
+        assertThrows(IllegalValueException.class, () ->
+                JsonAdaptedJournalRecord.remove(Arrays.asList(-1)).applyTo(applicants));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), applicants);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.trackascholar.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.testutil.TypicalApplicants;
+
+public class JsonApplicantStreamReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTrackAScholarTest");
+    private static final Path TYPICAL_APPLICANTS_FILE = TEST_DATA_FOLDER.resolve("typicalApplicantsTrackAScholar.json");
+    private static final Path INVALID_APPLICANT_FILE = TEST_DATA_FOLDER.resolve("invalidApplicantTrackAScholar.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readChunk_typicalApplicantsFile_allApplicantsInOrder() throws Exception {
+        List<Applicant> applicants = new ArrayList<>();
+        try (JsonApplicantStreamReader reader = new JsonApplicantStreamReader(TYPICAL_APPLICANTS_FILE)) {
+            for (List<Applicant> chunk = reader.readChunk(3); !chunk.isEmpty(); chunk = reader.readChunk(3)) {
+                assertTrue(chunk.size() <= 3);
+                applicants.addAll(chunk);
+            }
+            assertEquals(applicants.size(), reader.getApplicantCount());
+            assertTrue(reader.getFractionRead() > 0.99);
+        }
+        assertEquals(TypicalApplicants.getTypicalApplicants(), applicants);
+    }
+
+    @Test
+    public void readChunk_invalidApplicant_throwsDataConversionException() throws Exception {
+        try (JsonApplicantStreamReader reader = new JsonApplicantStreamReader(INVALID_APPLICANT_FILE)) {
+            assertThrows(DataConversionException.class, () -> reader.readChunk(10));
+        }
+    }
+
+    @Test
+    public void constructor_noApplicantsField_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("noApplicants.json");
+        Files.writeString(filePath, "{ \"others\" : [ { \"applicants\" : [] } ] }");
+        assertThrows(DataConversionException.class, () -> new JsonApplicantStreamReader(filePath));
+    }
+
+    @Test
+    public void readChunk_otherFields_skipped() throws Exception {
+        Path filePath = testFolder.resolve("otherFields.json");
+        Files.writeString(filePath, "{ \"version\" : { \"major\" : 1 }, \"applicants\" : [ ], \"extra\" : 1 }");
+        try (JsonApplicantStreamReader reader = new JsonApplicantStreamReader(filePath)) {
+            assertTrue(reader.readChunk(10).isEmpty());
+        }
+    }
+}
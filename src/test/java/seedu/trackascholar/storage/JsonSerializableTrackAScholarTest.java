@@ -44,8 +44,9 @@ public class JsonSerializableTrackAScholarTest {
     public void toModelType_duplicateApplicants_throwsIllegalValueException() throws Exception {
         JsonSerializableTrackAScholar dataFromFile = JsonUtil.readJsonFile(DUPLICATE_APPLICANT_FILE,
                 JsonSerializableTrackAScholar.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_APPLICANT,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_APPLICANT + " "
+                + String.format(JsonSerializableTrackAScholar.MESSAGE_DUPLICATE_NAMES, "Alice Pauline");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
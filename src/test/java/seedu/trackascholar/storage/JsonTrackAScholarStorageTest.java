@@ -2,6 +2,7 @@ package seedu.trackascholar.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackascholar.testutil.Assert.assertThrows;
 import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
 import static seedu.trackascholar.testutil.TypicalApplicants.HOON;
@@ -9,15 +10,21 @@ import static seedu.trackascholar.testutil.TypicalApplicants.IDA;
 import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.trackascholar.commons.exceptions.DataConversionException;
+import seedu.trackascholar.commons.util.FileUtil;
+import seedu.trackascholar.commons.util.JsonUtil;
+import seedu.trackascholar.commons.util.StringUtil;
 import seedu.trackascholar.model.ReadOnlyTrackAScholar;
 import seedu.trackascholar.model.TrackAScholar;
+import seedu.trackascholar.testutil.TrackAScholarBuilder;
 
 public class JsonTrackAScholarStorageTest {
     private static final Path TEST_DATA_FOLDER =
@@ -90,6 +97,83 @@ public class JsonTrackAScholarStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveTrackAScholar_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("CompactTrackAScholar.json");
+        TrackAScholar original = getTypicalTrackAScholar();
+        JsonTrackAScholarStorage jsonTrackAScholarStorage = new JsonTrackAScholarStorage(filePath, true);
+
+        jsonTrackAScholarStorage.saveTrackAScholar(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new TrackAScholar(jsonTrackAScholarStorage.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void saveTrackAScholar_pretty_sameAsJsonString() throws Exception {
+        Path filePath = testFolder.resolve("PrettyTrackAScholar.json");
+        TrackAScholar original = getTypicalTrackAScholar();
+        new JsonTrackAScholarStorage(filePath).saveTrackAScholar(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTrackAScholar(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveTrackAScholar_recordsContentHash() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackAScholar.json");
+        new JsonTrackAScholarStorage(filePath).saveTrackAScholar(getTypicalTrackAScholar());
+
+        byte[] expectedHash = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(filePath));
+        assertEquals(StringUtil.toHexString(expectedHash),
+                FileUtil.readFromFile(JsonTrackAScholarStorage.getContentHashPath(filePath)));
+    }
+
+    @Test
+    public void readTrackAScholar_unchangedSinceSaved_notValidated() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackAScholar.json");
+        new JsonTrackAScholarStorage(filePath).saveTrackAScholar(getTypicalTrackAScholar());
+
+        // An invalid name with a matching content hash is trusted, showing that the values are not validated
+        String invalidContents = FileUtil.readFromFile(filePath).replace(ALICE.getFullName(), "Al!ce Pauline");
+        FileUtil.writeToFile(filePath, invalidContents);
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(filePath));
+        FileUtil.writeToFile(JsonTrackAScholarStorage.getContentHashPath(filePath), StringUtil.toHexString(hash));
+
+        ReadOnlyTrackAScholar readBack = new JsonTrackAScholarStorage(filePath).readTrackAScholar().get();
+        assertEquals("Al!ce Pauline", readBack.getApplicantList().get(0).getFullName());
+    }
+
+    @Test
+    public void readTrackAScholar_modifiedSinceSaved_validated() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackAScholar.json");
+        JsonTrackAScholarStorage storage = new JsonTrackAScholarStorage(filePath);
+        TrackAScholar original = getTypicalTrackAScholar();
+        storage.saveTrackAScholar(original);
+
+        // valid external edit -> read with validation
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath) + "\n");
+        assertEquals(original, new TrackAScholar(storage.readTrackAScholar().get()));
+
+        // invalid external edit -> rejected
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(ALICE.getFullName(), "Al!ce"));
+        assertThrows(DataConversionException.class, () -> storage.readTrackAScholar());
+
+        // missing content hash -> validated
+        storage.saveTrackAScholar(original);
+        Files.delete(JsonTrackAScholarStorage.getContentHashPath(filePath));
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(ALICE.getFullName(), "Al!ce"));
+        assertThrows(DataConversionException.class, () -> storage.readTrackAScholar());
+    }
+
+    @Test
+    public void readTrackAScholar_largerThanMappedReadThreshold_success() throws Exception {
+        Path filePath = testFolder.resolve("LargeTrackAScholar.json");
+        TrackAScholar original = new TrackAScholarBuilder().withGeneratedApplicants(30000).build();
+        JsonTrackAScholarStorage storage = new JsonTrackAScholarStorage(filePath);
+        storage.saveTrackAScholar(original);
+        assertTrue(Files.size(filePath) >= FileUtil.MAPPED_READ_THRESHOLD);
+        assertEquals(original, new TrackAScholar(storage.readTrackAScholar().get()));
+    }
+
     @Test
     public void saveTrackAScholar_nullTrackAScholar_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTrackAScholar(null, "SomeFile.json"));
@@ -0,0 +1,104 @@
+package seedu.trackascholar.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackascholar.commons.exceptions.IllegalValueException;
+import seedu.trackascholar.model.applicant.Applicant;
+import seedu.trackascholar.model.applicant.Email;
+import seedu.trackascholar.model.applicant.Name;
+import seedu.trackascholar.testutil.TrackAScholarBuilder;
+
+public class ParallelApplicantConverterTest {
+
+    private static final int LARGE_COUNT = ParallelApplicantConverter.SEQUENTIAL_THRESHOLD * 10;
+
+    @Test
+    public void convert_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                ParallelApplicantConverter.convert(null, JsonAdaptedApplicant::toModelType, 0));
+        assertThrows(NullPointerException.class, () ->
+                ParallelApplicantConverter.convert(new ArrayList<>(), null, 0));
+    }
+
+    @Test
+    public void convert_emptyList_returnsEmptyList() throws Exception {
+        assertEquals(new ArrayList<>(),
+                ParallelApplicantConverter.convert(new ArrayList<>(), JsonAdaptedApplicant::toModelType, 0));
+    }
+
+    @Test
+    public void convert_smallAndLargeLists_sameOrder() throws Exception {
+        for (int count : new int[] {1, ParallelApplicantConverter.SEQUENTIAL_THRESHOLD, LARGE_COUNT}) {
+            List<Applicant> expected = generateApplicants(count);
+            assertEquals(expected,
+                    ParallelApplicantConverter.convert(adapt(expected), JsonAdaptedApplicant::toModelType, 0));
+        }
+    }
+
+    @Test
+    public void convert_invalidApplicants_firstInvalidApplicantReported() {
+        List<JsonAdaptedApplicant> adaptedApplicants = adapt(generateApplicants(LARGE_COUNT));
+        adaptedApplicants.set(LARGE_COUNT - 1, withEmail(adaptedApplicants.get(LARGE_COUNT - 1), "invalid"));
+        adaptedApplicants.set(LARGE_COUNT / 2, withName(adaptedApplicants.get(LARGE_COUNT / 2), "R@chel"));
+        adaptedApplicants.set(LARGE_COUNT / 2 + 1, withEmail(adaptedApplicants.get(LARGE_COUNT / 2 + 1), "invalid"));
+
+        String expectedMessage = String.format(ParallelApplicantConverter.MESSAGE_INVALID_APPLICANT,
+                LARGE_COUNT / 2 + 1, Name.MESSAGE_CONSTRAINTS);
+        // the reported applicant must not depend on the order in which the chunks happen to finish
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    ParallelApplicantConverter.convert(adaptedApplicants, JsonAdaptedApplicant::toModelType, 0));
+        }
+    }
+
+    @Test
+    public void convert_invalidApplicantWithFirstRecordIndex_numberedFromFirstRecordIndex() {
+        List<JsonAdaptedApplicant> adaptedApplicants = adapt(generateApplicants(3));
+        adaptedApplicants.set(1, withEmail(adaptedApplicants.get(1), "invalid"));
+
+        String expectedMessage = String.format(ParallelApplicantConverter.MESSAGE_INVALID_APPLICANT,
+                1000 + 2, Email.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelApplicantConverter.convert(adaptedApplicants, JsonAdaptedApplicant::toModelType, 1000));
+    }
+
+    private static List<Applicant> generateApplicants(int count) {
+        return new ArrayList<>(new TrackAScholarBuilder().withGeneratedApplicants(count).build().getApplicantList());
+    }
+
+    private static List<JsonAdaptedApplicant> adapt(List<Applicant> applicants) {
+        List<JsonAdaptedApplicant> adaptedApplicants = new ArrayList<>();
+        for (Applicant applicant : applicants) {
+            adaptedApplicants.add(new JsonAdaptedApplicant(applicant));
+        }
+        return adaptedApplicants;
+    }
+
+    private static JsonAdaptedApplicant withName(JsonAdaptedApplicant adaptedApplicant, String name) {
+        Applicant applicant = toApplicant(adaptedApplicant);
+        return new JsonAdaptedApplicant(name, applicant.getPhoneNumber(), applicant.getEmailAddress(),
+                applicant.getScholarshipName(), applicant.getStatusOfApplication(), new ArrayList<>(),
+                applicant.getHasPinned());
+    }
+
+    private static JsonAdaptedApplicant withEmail(JsonAdaptedApplicant adaptedApplicant, String email) {
+        Applicant applicant = toApplicant(adaptedApplicant);
+        return new JsonAdaptedApplicant(applicant.getFullName(), applicant.getPhoneNumber(), email,
+                applicant.getScholarshipName(), applicant.getStatusOfApplication(), new ArrayList<>(),
+                applicant.getHasPinned());
+    }
+
+    private static Applicant toApplicant(JsonAdaptedApplicant adaptedApplicant) {
+        try {
+            return adaptedApplicant.toModelType();
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Generated applicants should be valid.", ive);
+        }
+    }
+}
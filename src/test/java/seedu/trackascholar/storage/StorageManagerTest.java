@@ -1,10 +1,16 @@
 package seedu.trackascholar.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.TypicalApplicants.ALICE;
+import static seedu.trackascholar.testutil.TypicalApplicants.BENSON;
 import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -66,9 +72,95 @@ public class StorageManagerTest {
         assertEquals(original, new TrackAScholar(retrieved));
     }
 
+    @Test
+    public void requestSaveTrackAScholar_savingInBackground_savedAfterFlush() throws Exception {
+        JsonTrackAScholarStorage trackAScholarStorage = new JsonTrackAScholarStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(trackAScholarStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        TrackAScholar original = getTypicalTrackAScholar();
+        backgroundStorageManager.requestSaveTrackAScholar(original);
+        TrackAScholar expected = new TrackAScholar(original);
+
+        // changes made after the request are not saved
+        original.removeApplicant(ALICE);
+        backgroundStorageManager.flushTrackAScholar();
+        assertEquals(expected, new TrackAScholar(backgroundStorageManager.readTrackAScholar().get()));
+        assertEquals(1, backgroundStorageManager.getSaveMetrics().getWriteCount());
+        backgroundStorageManager.shutdown();
+    }
+
+    @Test
+    public void requestSaveTrackAScholar_requestsDuringWrite_coalesced() throws Exception {
+        BlockingTrackAScholarStorageStub trackAScholarStorage =
+                new BlockingTrackAScholarStorageStub(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(trackAScholarStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        TrackAScholar trackAScholar = getTypicalTrackAScholar();
+        backgroundStorageManager.requestSaveTrackAScholar(trackAScholar);
+        trackAScholarStorage.writeStarted.await();
+        trackAScholar.removeApplicant(ALICE);
+        backgroundStorageManager.requestSaveTrackAScholar(trackAScholar);
+        trackAScholar.removeApplicant(BENSON);
+        backgroundStorageManager.requestSaveTrackAScholar(trackAScholar);
+        trackAScholarStorage.writeAllowed.countDown();
+        backgroundStorageManager.shutdown();
+
+        SaveMetrics saveMetrics = backgroundStorageManager.getSaveMetrics();
+        assertEquals(3, saveMetrics.getRequestCount());
+        assertEquals(1, saveMetrics.getCoalescedCount());
+        assertEquals(2, saveMetrics.getWriteCount());
+        assertEquals(trackAScholar, new TrackAScholar(backgroundStorageManager.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void flushTrackAScholar_backgroundSaveFailed_throwsIoException() throws Exception {
+        JsonTrackAScholarStorage trackAScholarStorage = new JsonTrackAScholarStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar, Path filePath) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(trackAScholarStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        backgroundStorageManager.requestSaveTrackAScholar(getTypicalTrackAScholar());
+        assertThrows(IOException.class, "dummy exception", backgroundStorageManager::flushTrackAScholar);
+
+        // the failure is reported only once
+        backgroundStorageManager.flushTrackAScholar();
+        assertFalse(backgroundStorageManager.pollTrackAScholarSaveFailure().isPresent());
+        assertEquals(1, backgroundStorageManager.getSaveMetrics().getFailureCount());
+        backgroundStorageManager.shutdown();
+    }
+
     @Test
     public void getTrackAScholarFilePath() {
         assertNotNull(storageManager.getTrackAScholarFilePath());
     }
 
+    /**
+     * A stub class that waits to be allowed to write the first time the save method is called.
+     */
+    private static class BlockingTrackAScholarStorageStub extends JsonTrackAScholarStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch writeAllowed = new CountDownLatch(1);
+
+        private BlockingTrackAScholarStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTrackAScholar(ReadOnlyTrackAScholar trackAScholar, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writeAllowed.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            super.saveTrackAScholar(trackAScholar, filePath);
+        }
+    }
+
 }
@@ -0,0 +1,195 @@
+package seedu.trackascholar.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackascholar.testutil.Assert.assertThrows;
+import static seedu.trackascholar.testutil.TypicalApplicants.HOON;
+import static seedu.trackascholar.testutil.TypicalApplicants.getTypicalTrackAScholar;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackascholar.commons.core.StorageMode;
+import seedu.trackascholar.model.TrackAScholar;
+
+public class TrackAScholarStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_nullStorage_throwsNullPointerException() {
+        JsonTrackAScholarStorage jsonStorage = new JsonTrackAScholarStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> TrackAScholarStorageConverter.convert(null, jsonStorage));
+        assertThrows(NullPointerException.class, () -> TrackAScholarStorageConverter.convert(jsonStorage, null));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        TrackAScholar original = getTypicalTrackAScholar();
+        JsonTrackAScholarStorage jsonStorage = new JsonTrackAScholarStorage(testFolder.resolve("data.json"));
+        BinaryTrackAScholarStorage binaryStorage = new BinaryTrackAScholarStorage(testFolder.resolve("data.bin"));
+        JsonTrackAScholarStorage convertedJsonStorage = new JsonTrackAScholarStorage(testFolder.resolve("back.json"));
+        jsonStorage.saveTrackAScholar(original);
+
+        assertTrue(TrackAScholarStorageConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(original, new TrackAScholar(binaryStorage.readTrackAScholar().get()));
+
+        assertTrue(TrackAScholarStorageConverter.convert(binaryStorage, convertedJsonStorage));
+        assertEquals(original, new TrackAScholar(convertedJsonStorage.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        BinaryTrackAScholarStorage binaryStorage = new BinaryTrackAScholarStorage(testFolder.resolve("data.bin"));
+        JsonTrackAScholarStorage jsonStorage = new JsonTrackAScholarStorage(testFolder.resolve("data.json"));
+        assertFalse(TrackAScholarStorageConverter.convert(binaryStorage, jsonStorage));
+        assertFalse(Files.exists(jsonStorage.getTrackAScholarFilePath()));
+    }
+
+    @Test
+    public void convertIfNewer() throws Exception {
+        TrackAScholar original = getTypicalTrackAScholar();
+        JsonTrackAScholarStorage jsonStorage = new JsonTrackAScholarStorage(testFolder.resolve("data.json"));
+        BinaryTrackAScholarStorage binaryStorage = new BinaryTrackAScholarStorage(testFolder.resolve("data.bin"));
+        jsonStorage.saveTrackAScholar(original);
+
+        // target missing -> converted
+        assertTrue(TrackAScholarStorageConverter.convertIfNewer(jsonStorage, binaryStorage));
+
+        // target newer than source -> not converted
+        TrackAScholar modified = getTypicalTrackAScholar();
+        modified.addApplicant(HOON);
+        binaryStorage.saveTrackAScholar(modified);
+        setLastModified(jsonStorage, 1000);
+        setLastModified(binaryStorage, 2000);
+        assertFalse(TrackAScholarStorageConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(modified, new TrackAScholar(binaryStorage.readTrackAScholar().get()));
+
+        // source newer than target -> converted
+        assertTrue(TrackAScholarStorageConverter.convertIfNewer(binaryStorage, jsonStorage));
+        assertEquals(modified, new TrackAScholar(jsonStorage.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void createStorage_switchJsonToBinary_dataCarriedOver() throws Exception {
+        assertSwitchCarriesOverData(StorageMode.JSON, StorageMode.BINARY);
+    }
+
+    @Test
+    public void createStorage_switchBinaryToJson_dataCarriedOver() throws Exception {
+        assertSwitchCarriesOverData(StorageMode.BINARY, StorageMode.JSON);
+    }
+
+    @Test
+    public void createStorage_switchJsonToJournal_dataCarriedOver() throws Exception {
+        assertSwitchCarriesOverData(StorageMode.JSON, StorageMode.JOURNAL);
+    }
+
+    @Test
+    public void createStorage_switchJournalToJson_dataCarriedOver() throws Exception {
+        assertSwitchCarriesOverData(StorageMode.JOURNAL, StorageMode.JSON);
+    }
+
+    @Test
+    public void createStorage_switchBinaryToJournal_dataCarriedOver() throws Exception {
+        assertSwitchCarriesOverData(StorageMode.BINARY, StorageMode.JOURNAL);
+    }
+
+    @Test
+    public void createStorage_switchJournalToBinary_dataCarriedOver() throws Exception {
+        assertSwitchCarriesOverData(StorageMode.JOURNAL, StorageMode.BINARY);
+    }
+
+    @Test
+    public void createStorage_switchJournalToBinaryWithOlderSnapshot_journaledEditsCarriedOver() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TrackAScholarStorage journalStorage = TrackAScholarStorageConverter.createStorage(StorageMode.JOURNAL,
+                filePath);
+        journalStorage.saveTrackAScholar(getTypicalTrackAScholar());
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(1000));
+        new BinaryTrackAScholarStorage(BinaryTrackAScholarStorage.getSnapshotPath(filePath))
+                .saveTrackAScholar(new TrackAScholar());
+        Files.setLastModifiedTime(BinaryTrackAScholarStorage.getSnapshotPath(filePath), FileTime.fromMillis(2000));
+
+        // the snapshot is older than the binary snapshot, but the journal appended to it is newer
+        TrackAScholar modified = getTypicalTrackAScholar();
+        modified.addApplicant(HOON);
+        journalStorage.saveTrackAScholar(modified);
+        assertTrue(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+
+        TrackAScholarStorage binaryStorage = TrackAScholarStorageConverter.createStorage(StorageMode.BINARY,
+                filePath);
+        assertEquals(modified, new TrackAScholar(binaryStorage.readTrackAScholar().get()));
+    }
+
+    @Test
+    public void createStorage_switchJournalToJson_journaledEditsKept() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TrackAScholarStorage journalStorage = TrackAScholarStorageConverter.createStorage(StorageMode.JOURNAL,
+                filePath);
+        TrackAScholar modified = getTypicalTrackAScholar();
+        journalStorage.saveTrackAScholar(modified);
+        modified.addApplicant(HOON);
+        journalStorage.saveTrackAScholar(modified);
+        assertTrue(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+
+        TrackAScholarStorage jsonStorage = TrackAScholarStorageConverter.createStorage(StorageMode.JSON, filePath);
+        assertEquals(modified, new TrackAScholar(jsonStorage.readTrackAScholar().get()));
+        assertFalse(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void createStorage_switchJournalToBinaryWithNewerBinarySnapshot_binarySnapshotKept() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path binaryPath = BinaryTrackAScholarStorage.getSnapshotPath(filePath);
+        TrackAScholarStorage journalStorage = TrackAScholarStorageConverter.createStorage(StorageMode.JOURNAL,
+                filePath);
+        journalStorage.saveTrackAScholar(new TrackAScholar());
+        journalStorage.saveTrackAScholar(getTypicalTrackAScholar());
+        setLastModified(filePath, 1000);
+        setLastModified(JournalTrackAScholarStorage.getJournalPath(filePath), 1000);
+        TrackAScholar modified = getTypicalTrackAScholar();
+        modified.addApplicant(HOON);
+        new BinaryTrackAScholarStorage(binaryPath).saveTrackAScholar(modified);
+
+        // the leftover journal is compacted without becoming newer than the binary snapshot
+        TrackAScholarStorage binaryStorage = TrackAScholarStorageConverter.createStorage(StorageMode.BINARY,
+                filePath);
+        assertEquals(modified, new TrackAScholar(binaryStorage.readTrackAScholar().get()));
+        assertFalse(Files.exists(JournalTrackAScholarStorage.getJournalPath(filePath)));
+    }
+
+    /**
+     * Asserts that the data saved in {@code fromMode} is read in {@code toMode} after switching to it, even though
+     * older data had been saved in {@code toMode} before.
+     */
+    private void assertSwitchCarriesOverData(StorageMode fromMode, StorageMode toMode) throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        TrackAScholarStorageConverter.createStorage(toMode, filePath).saveTrackAScholar(new TrackAScholar());
+        setLastModified(filePath, 1000);
+        setLastModified(BinaryTrackAScholarStorage.getSnapshotPath(filePath), 1000);
+
+        TrackAScholar modified = getTypicalTrackAScholar();
+        modified.addApplicant(HOON);
+        TrackAScholarStorageConverter.createStorage(fromMode, filePath).saveTrackAScholar(modified);
+
+        TrackAScholarStorage storage = TrackAScholarStorageConverter.createStorage(toMode, filePath);
+        assertEquals(modified, new TrackAScholar(storage.readTrackAScholar().get()));
+    }
+
+    private static void setLastModified(TrackAScholarStorage storage, long millis) throws Exception {
+        Files.setLastModifiedTime(storage.getTrackAScholarFilePath(), FileTime.fromMillis(millis));
+    }
+
+    private static void setLastModified(Path filePath, long millis) throws Exception {
+        if (Files.exists(filePath)) {
+            Files.setLastModifiedTime(filePath, FileTime.fromMillis(millis));
+        }
+    }
+}
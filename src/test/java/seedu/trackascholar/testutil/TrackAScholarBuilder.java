@@ -1,5 +1,8 @@
 package seedu.trackascholar.testutil;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.trackascholar.model.TrackAScholar;
 import seedu.trackascholar.model.applicant.Applicant;
 
@@ -28,6 +31,26 @@ public class TrackAScholarBuilder {
         return this;
     }
 
+    /**
+     * Adds {@code count} new applicants with distinct names and phone numbers to the {@code TrackAScholar} that we
+     * are building, spread over a few scholarships, application statuses and majors.
+     */
+    public TrackAScholarBuilder withGeneratedApplicants(int count) {
+        String[] scholarships = {"NUS Merit Scholarship", "NUS Global Merit Scholarship", "NUS Sports Scholarship"};
+        String[] statuses = {"pending", "accepted", "rejected"};
+        String[] majors = {"Computer Science", "Mathematics", "Physics", "Business"};
+        List<Applicant> applicants = new ArrayList<>(trackAScholar.getApplicantList());
+        for (int i = 0; i < count; i++) {
+            applicants.add(new ApplicantBuilder().withName("Generated Applicant " + i)
+                    .withPhone(String.format("8%07d", i)).withEmail("applicant" + i + "@example.com")
+                    .withScholarship(scholarships[i % scholarships.length])
+                    .withApplicationStatus(statuses[i % statuses.length])
+                    .withMajors(majors[i % majors.length]).build());
+        }
+        trackAScholar.setApplicants(applicants);
+        return this;
+    }
+
     public TrackAScholar build() {
         return trackAScholar;
     }
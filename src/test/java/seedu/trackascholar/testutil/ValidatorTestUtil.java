@@ -0,0 +1,89 @@
+package seedu.trackascholar.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A utility class for checking that a validator gives the same verdicts as the regular expression it replaces.
+ */
+public class ValidatorTestUtil {
+
+    private static final int RANDOM_STRING_COUNT = 20000;
+    private static final int MAX_RANDOM_STRING_LENGTH = 24;
+    private static final int MUTATION_COUNT_PER_SEED = 2000;
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that fully match {@code regex}, among
+     * <ul>
+     *     <li>every string of characters in {@code alphabet} up to {@code maxExhaustiveLength} long,</li>
+     *     <li>longer random strings of characters in {@code alphabet}, and</li>
+     *     <li>random mutations of each of {@code seeds}, which should be near the boundary of the format.</li>
+     * </ul>
+     * The random strings are the same on every run.
+     */
+    public static void assertSameVerdictsAsRegex(Predicate<String> validator, String regex, String alphabet,
+            int maxExhaustiveLength, String... seeds) {
+        Pattern pattern = Pattern.compile(regex);
+        assertAllStringsUpToLength(validator, pattern, alphabet, new StringBuilder(), maxExhaustiveLength);
+
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(MAX_RANDOM_STRING_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertSameVerdict(validator, pattern, test.toString());
+        }
+
+        for (String seed : seeds) {
+            assertSameVerdict(validator, pattern, seed);
+            for (int i = 0; i < MUTATION_COUNT_PER_SEED; i++) {
+                assertSameVerdict(validator, pattern, mutate(seed, alphabet, random));
+            }
+        }
+    }
+
+    private static void assertAllStringsUpToLength(Predicate<String> validator, Pattern pattern, String alphabet,
+            StringBuilder prefix, int remainingLength) {
+        assertSameVerdict(validator, pattern, prefix.toString());
+        if (remainingLength == 0) {
+            return;
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            prefix.append(alphabet.charAt(i));
+            assertAllStringsUpToLength(validator, pattern, alphabet, prefix, remainingLength - 1);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    /**
+     * Returns {@code seed} with a few characters inserted, replaced or removed at random.
+     */
+    private static String mutate(String seed, String alphabet, Random random) {
+        StringBuilder mutated = new StringBuilder(seed);
+        int mutationCount = 1 + random.nextInt(3);
+        for (int i = 0; i < mutationCount; i++) {
+            int position = random.nextInt(mutated.length() + 1);
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            int kind = random.nextInt(3);
+            if (kind == 0) {
+                mutated.insert(position, c);
+            } else if (position < mutated.length()) {
+                if (kind == 1) {
+                    mutated.setCharAt(position, c);
+                } else {
+                    mutated.deleteCharAt(position);
+                }
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static void assertSameVerdict(Predicate<String> validator, Pattern pattern, String test) {
+        assertEquals(pattern.matcher(test).matches(), validator.test(test), "Different verdict for \"" + test + "\"");
+    }
+}